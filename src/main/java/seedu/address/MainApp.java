@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -19,15 +20,16 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookReadListener;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.FormatDetectingAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,10 +59,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(new JournaledAddressBookStorage(
+                new FormatDetectingAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isBinaryDataFile(), userPrefs.isPrettyPrintDataFile())));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // The address book is loaded in the background once the main window is shown, see start()
+        model = new ModelManager(new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
 
@@ -68,29 +73,29 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the data from {@code storage}'s address book, or an empty {@code Optional} if it is not found,
+     * handing the persons to {@code listener} as they are read. <br>
+     * The logic loads the sample address book instead if it is not found,
+     * or an empty address book that is not saved if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Optional<ReadOnlyAddressBook> readInitialAddressBook(AddressBookReadListener listener)
+            throws DataLoadingException {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            addressBookOptional = storage.readAddressBook(listener);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+                    + " Will be starting with an empty AddressBook that is not saved.");
+            throw e;
+        }
+        if (!addressBookOptional.isPresent()) {
+            logger.info("Data file " + storage.getAddressBookFilePath() + " not found. Will be starting with a sample"
+                    + " AddressBook, which is saved to a new data file after the first command.");
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return addressBookOptional;
     }
 
     private void initLogging(Config config) {
@@ -171,16 +176,24 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        // The batches are only added once the main window has been shown, as they are run after start() returns
+        logic.loadAddressBook(this::readInitialAddressBook, Platform::runLater);
         ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logger.info("Skipped saving the unchanged address book after " + logic.getSkippedSaveCount() + " commands");
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,54 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Provides the current date and time to the app, from the system clock in the default time zone
+ * unless another {@link Clock} has been set, such as a fixed clock in tests.
+ *
+ * Anything working with many dates, such as a command, should read {@link #today()} once and pass the date on,
+ * so that its results agree with each other even if the day changes while it runs.
+ */
+public class AppClock {
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * Returns the clock the current date and time are read from.
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Reads the current date and time from {@code newClock} from now on.
+     */
+    public static void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+    }
+
+    /**
+     * Reads the current date and time from the system clock in the default time zone again.
+     */
+    public static void reset() {
+        clock = Clock.systemDefaultZone();
+    }
+
+    /**
+     * Returns the current date.
+     */
+    public static LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Returns the current date and time.
+     */
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
@@ -0,0 +1,429 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Writes files atomically with a trailing checksum of their content, and reads them back verifying the checksum.
+ *
+ * A file is first written to a temporary file next to it, forced to the disk and then renamed over the old file
+ * in a single atomic move, so the file is always there in full. The old file is kept as the previous generation
+ * beforehand, by linking or copying it. The checksum is computed as the content is written, and is appended
+ * to the content as a fixed-length trailer line. Files without the trailer can still be read, unverified.
+ */
+public class ChecksummedFile {
+
+    public static final String CHECKSUM_MISMATCH_MESSAGE = "Content of %s does not match its checksum";
+
+    /** Size in bytes from which files are read through their channel into a large buffer. */
+    public static final long LARGE_FILE_THRESHOLD = 1024 * 1024;
+
+    private static final String TRAILER_PREFIX = "\n#crc32:";
+    private static final Pattern TRAILER_PATTERN = Pattern.compile("\n#crc32:[0-9a-f]{8}\n");
+    private static final int TRAILER_LENGTH = TRAILER_PREFIX.length() + 8 + 1;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String PREVIOUS_GENERATION_SUFFIX = ".bak";
+    private static final int LARGE_FILE_BUFFER_SIZE = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ChecksummedFile.class);
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Reads the content of the file at a path.
+     */
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        T readFrom(Path file) throws DataLoadingException;
+    }
+
+    /**
+     * Returns the path the previous generation of the file at {@code file} is kept at.
+     */
+    public static Path getPreviousGenerationPath(Path file) {
+        return file.resolveSibling(file.getFileName() + PREVIOUS_GENERATION_SUFFIX);
+    }
+
+    /**
+     * Atomically replaces the file at {@code file} with the content written by {@code contentWriter},
+     * followed by the checksum trailer. The file being replaced is kept as the previous generation.
+     * Missing parent directories are created.
+     */
+    public static void write(Path file, ContentWriter contentWriter) throws IOException {
+        requireNonNull(file);
+        requireNonNull(contentWriter);
+
+        FileUtil.createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+            ChecksumOutputStream contentStream = new ChecksumOutputStream(outputStream);
+            contentWriter.writeTo(contentStream);
+            outputStream.write(toTrailer(contentStream.checksum.getValue()));
+            outputStream.flush();
+            channel.force(true);
+        }
+
+        if (Files.exists(file)) {
+            keepPreviousGeneration(file);
+        }
+        move(temporaryFile, file);
+    }
+
+    /**
+     * Makes the file at {@code file} the previous generation, leaving it in place.
+     * The file is hard-linked where the file system allows, and copied otherwise.
+     */
+    private static void keepPreviousGeneration(Path file) throws IOException {
+        Path previousGenerationPath = getPreviousGenerationPath(file);
+        Path temporaryFile = previousGenerationPath.resolveSibling(
+                previousGenerationPath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        Files.deleteIfExists(temporaryFile);
+        try {
+            Files.createLink(temporaryFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        move(temporaryFile, previousGenerationPath);
+    }
+
+    /**
+     * Opens the file at {@code file} for reading its content, without the checksum trailer.
+     * Once the content has been read, {@link VerifyingInputStream#verifyChecksum()} checks it against the trailer.
+     * Files of at least {@link #LARGE_FILE_THRESHOLD} bytes are read through their channel.
+     */
+    public static VerifyingInputStream open(Path file) throws IOException {
+        requireNonNull(file);
+        return open(file, Files.size(file) >= LARGE_FILE_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #open(Path)}.
+     *
+     * @param isReadThroughChannel whether to read the file straight from its channel into a large direct buffer
+     *     that is refilled as it is read, rather than through a small stream buffer.
+     *     Either way, closing the stream closes the file, so the file can be replaced as soon as it has been read.
+     */
+    public static VerifyingInputStream open(Path file, boolean isReadThroughChannel) throws IOException {
+        requireNonNull(file);
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            Long expectedChecksum = readTrailerChecksum(channel, fileSize);
+            long contentLength = (expectedChecksum != null) ? fileSize - TRAILER_LENGTH : fileSize;
+            channel.position(0);
+            InputStream inputStream = isReadThroughChannel
+                    ? new ChannelInputStream(channel, LARGE_FILE_BUFFER_SIZE)
+                    : new BufferedInputStream(Channels.newInputStream(channel));
+            return new VerifyingInputStream(file, inputStream, contentLength, expectedChecksum);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the checksum in the trailer of the file at {@code file} without reading its content,
+     * or an empty {@code Optional} if the file has no trailer.
+     */
+    public static Optional<Long> readChecksum(Path file) throws IOException {
+        requireNonNull(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return Optional.ofNullable(readTrailerChecksum(channel, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the file at {@code file} with {@code contentReader}, falling back to its previous generation
+     * if the file is missing or cannot be read, such as when it was edited by hand without removing its checksum.
+     * Returns an empty {@code Optional} if neither generation exists.
+     *
+     * @throws DataLoadingException if the file cannot be read, and neither can its previous generation.
+     */
+    public static <T> Optional<T> readLatestGeneration(Path file, ContentReader<T> contentReader)
+            throws DataLoadingException {
+        requireNonNull(file);
+        requireNonNull(contentReader);
+
+        Path previousGenerationPath = getPreviousGenerationPath(file);
+        if (!Files.exists(file)) {
+            if (!Files.exists(previousGenerationPath)) {
+                return Optional.empty();
+            }
+            logger.warning("Data file " + file + " not found, loading its previous generation "
+                    + previousGenerationPath + " instead.");
+            return Optional.of(contentReader.readFrom(previousGenerationPath));
+        }
+        logger.info("Data file " + file + " found.");
+
+        try {
+            return Optional.of(contentReader.readFrom(file));
+        } catch (DataLoadingException e) {
+            if (!Files.exists(previousGenerationPath)) {
+                throw e;
+            }
+            logger.warning("Data file " + file + " could not be loaded, loading its previous generation "
+                    + previousGenerationPath + " instead. If the data file was edited by hand, its checksum "
+                    + "no longer matches; remove its last line, starting with " + TRAILER_PREFIX.trim()
+                    + ", to load it. The next save replaces the data file.");
+            try {
+                return Optional.of(contentReader.readFrom(previousGenerationPath));
+            } catch (DataLoadingException previousGenerationException) {
+                throw e;
+            }
+        }
+    }
+
+    private static byte[] toTrailer(long checksum) {
+        return String.format("%s%08x\n", TRAILER_PREFIX, checksum).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the checksum in the trailer of the file open in {@code channel}, or null if it has no trailer.
+     */
+    private static Long readTrailerChecksum(SeekableByteChannel channel, long fileSize) throws IOException {
+        if (fileSize < TRAILER_LENGTH) {
+            return null;
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_LENGTH);
+        channel.position(fileSize - TRAILER_LENGTH);
+        while (trailer.hasRemaining() && channel.read(trailer) != -1) {
+            // keep reading until the whole trailer is in the buffer
+        }
+        String trailerString = new String(trailer.array(), StandardCharsets.US_ASCII);
+        if (!TRAILER_PATTERN.matcher(trailerString).matches()) {
+            return null;
+        }
+        return Long.parseLong(trailerString.substring(TRAILER_PREFIX.length(), TRAILER_LENGTH - 1), 16);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Passes content through to the file while computing its checksum.
+     * Closing it only flushes, so that the trailer can still be written after the content.
+     */
+    private static class ChecksumOutputStream extends FilterOutputStream {
+        private final CRC32 checksum = new CRC32();
+
+        ChecksumOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            checksum.update(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            checksum.update(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    /**
+     * Reads a file straight from its channel into a direct buffer, which is refilled each time it has been read.
+     * Closing it closes the channel.
+     */
+    private static class ChannelInputStream extends InputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        ChannelInputStream(FileChannel channel, int bufferSize) {
+            this.channel = channel;
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+            buffer.limit(0);
+        }
+
+        /**
+         * Refills the buffer from the channel if it has been read, returning false at the end of the file.
+         */
+        private boolean fillBuffer() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            buffer.clear();
+            int read = 0;
+            while (read == 0) {
+                read = channel.read(buffer);
+            }
+            buffer.flip();
+            return read > 0;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fillBuffer() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fillBuffer()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads the content of a checksummed file, computing its checksum as it is read.
+     */
+    public static class VerifyingInputStream extends FilterInputStream {
+        private final Path file;
+        private final Long expectedChecksum;
+        private final CRC32 checksum = new CRC32();
+        private final long contentLength;
+        private long remaining;
+
+        private VerifyingInputStream(Path file, InputStream inputStream, long contentLength, Long expectedChecksum) {
+            super(inputStream);
+            this.file = file;
+            this.contentLength = contentLength;
+            this.remaining = contentLength;
+            this.expectedChecksum = expectedChecksum;
+        }
+
+        /**
+         * Returns true if the file has a checksum to verify its content against.
+         */
+        public boolean hasChecksum() {
+            return expectedChecksum != null;
+        }
+
+        /**
+         * Returns the checksum in the trailer that the content is verified against,
+         * or an empty {@code Optional} if the file has no checksum.
+         */
+        public Optional<Long> getChecksum() {
+            return Optional.ofNullable(expectedChecksum);
+        }
+
+        /**
+         * Returns the length of the content in bytes, without the checksum trailer.
+         */
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b != -1) {
+                checksum.update(b);
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                checksum.update(b, off, read);
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Reads any content not read yet, then checks the content against the checksum in the trailer.
+         * Does nothing if the file has no checksum.
+         *
+         * @throws IOException if the content does not match the checksum.
+         */
+        public void verifyChecksum() throws IOException {
+            byte[] buffer = new byte[8192];
+            while (read(buffer, 0, buffer.length) != -1) {
+                // reading through the stream updates the checksum
+            }
+            if (expectedChecksum != null && expectedChecksum != checksum.getValue()) {
+                throw new IOException(String.format(CHECKSUM_MISMATCH_MESSAGE, file));
+            }
+        }
+    }
+}
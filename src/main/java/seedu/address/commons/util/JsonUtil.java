@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
@@ -13,6 +15,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -116,6 +120,31 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser over {@code inputStream} that reads values the same way as {@link #fromJsonString}.
+     * Allows large JSON documents to be read a piece at a time instead of as a whole.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+        return objectMapper.createParser(inputStream);
+    }
+
+    /**
+     * Returns a generator writing to {@code outputStream} that writes values the same way as {@link #toJsonString}.
+     * Allows large JSON documents to be written a piece at a time instead of as a whole.
+     *
+     * @param isPrettyPrinted whether the output is indented for reading, rather than in compact form.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(outputStream);
+        JsonGenerator generator = objectMapper.createGenerator(outputStream);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
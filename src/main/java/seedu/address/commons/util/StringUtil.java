@@ -12,6 +12,14 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /** Largest number of codes in a key returned by {@link #getPhoneticKey(String)}. */
+    public static final int PHONETIC_KEY_LENGTH = 4;
+
+    /** Codes of the letters {@code a} to {@code z}, where letters that sound alike share a code. */
+    private static final String PHONETIC_CODES = "0123012 08245501267301 207";
+    private static final char VOWEL_CODE = '0';
+    private static final char UNCODED = ' ';
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -56,14 +64,150 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(searchTerm);
 
-        String preppedSearchTerm = searchTerm.trim().toLowerCase();
+        return toSearchKey(sentence).contains(toSearchTerm(searchTerm));
+    }
+
+    /**
+     * Returns {@code s} normalized for case-insensitive searching, as used by
+     * {@link #containsPartialWordIgnoreCase(String, String)}.
+     * Search keys can be computed once and kept, then searched with {@link #containsAnySearchTerm}.
+     */
+    public static String toSearchKey(String s) {
+        requireNonNull(s);
+        return s.toLowerCase();
+    }
+
+    /**
+     * Returns {@code searchTerm} normalized for searching search keys, that is trimmed and as a search key.
+     *
+     * @param searchTerm cannot be null, cannot be empty
+     * @see #toSearchKey(String)
+     */
+    public static String toSearchTerm(String searchTerm) {
+        requireNonNull(searchTerm);
+        String preppedSearchTerm = toSearchKey(searchTerm.trim());
         checkArgument(!preppedSearchTerm.isEmpty(), "Search term parameter cannot be empty");
+        return preppedSearchTerm;
+    }
+
+    /**
+     * Returns true if {@code searchKey} contains any of {@code searchTerms}.
+     * Gives the same result as {@link #containsPartialWordIgnoreCase(String, String)} on the original strings
+     * for any of them, without allocating.
+     *
+     * @param searchKey a string normalized by {@link #toSearchKey(String)}
+     * @param searchTerms strings normalized by {@link #toSearchTerm(String)}
+     */
+    public static boolean containsAnySearchTerm(String searchKey, String[] searchTerms) {
+        requireNonNull(searchKey);
+        for (String searchTerm : searchTerms) {
+            if (searchKey.contains(searchTerm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the edit (Levenshtein) distance between {@code a} and {@code b}, that is the fewest insertions,
+     * deletions and substitutions of single characters that turn one into the other.
+     * The distance is case-sensitive, so both strings should be search keys when comparing ignoring case.
+     */
+    public static int getEditDistance(String a, String b) {
+        requireNonNull(a);
+        requireNonNull(b);
+        // a common prefix and suffix need no edits, so only the characters between them are compared
+        int start = 0;
+        while (start < a.length() && start < b.length() && a.charAt(start) == b.charAt(start)) {
+            start++;
+        }
+        int aEnd = a.length();
+        int bEnd = b.length();
+        while (aEnd > start && bEnd > start && a.charAt(aEnd - 1) == b.charAt(bEnd - 1)) {
+            aEnd--;
+            bEnd--;
+        }
+        if (aEnd == start || bEnd == start) {
+            return (aEnd - start) + (bEnd - start);
+        }
+
+        int bLength = bEnd - start;
+        int[] previousRow = new int[bLength + 1];
+        int[] currentRow = new int[bLength + 1];
+        for (int j = 0; j <= bLength; j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= aEnd - start; i++) {
+            currentRow[0] = i;
+            char aChar = a.charAt(start + i - 1);
+            for (int j = 1; j <= bLength; j++) {
+                int substitutionCost = (aChar == b.charAt(start + j - 1)) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[bLength];
+    }
 
-        String preppedSentence = sentence.toLowerCase();
+    /**
+     * Returns a key of how {@code word} sounds, which words that sound alike share, such as {@code catherine} and
+     * {@code kathryn}, or {@code jorge} and {@code george}. Returns an empty string if {@code word} has no letters.
+     *
+     * The key is Soundex-style: each consonant is coded by its group of consonants that sound alike, consonants of
+     * the same group next to each other (or with only {@code h} or {@code w} between them) are coded once,
+     * vowels are dropped and digits are ignored. Unlike Soundex, the first letter is coded too, and a leading vowel
+     * is coded as {@code 0}, so that spellings starting with different letters of the same sound share a key.
+     * Soft {@code c} and {@code g} (before {@code e}, {@code i} or {@code y}) are coded as {@code s} and {@code j},
+     * and the silent first letter of {@code kn}, {@code gn}, {@code pn} and {@code ps} is dropped.
+     * Only the first {@link #PHONETIC_KEY_LENGTH} codes are kept, so that long names match their shortened forms.
+     *
+     * @param word a single word as a search key, see {@link #toSearchKey(String)}
+     */
+    public static String getPhoneticKey(String word) {
+        requireNonNull(word);
+        StringBuilder key = new StringBuilder(PHONETIC_KEY_LENGTH);
+        char previousCode = UNCODED;
+        int start = hasSilentFirstLetter(word) ? 1 : 0;
+        for (int i = start; i < word.length() && key.length() < PHONETIC_KEY_LENGTH; i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                continue;
+            }
+            char code = getPhoneticCode(word, i);
+            if (code == UNCODED) {
+                continue;
+            }
+            boolean isLeadingVowel = code == VOWEL_CODE && key.length() == 0;
+            if (code != previousCode && (code != VOWEL_CODE || isLeadingVowel)) {
+                key.append(code);
+            }
+            previousCode = code;
+        }
+        return key.toString();
+    }
 
-        return preppedSentence.contains(preppedSearchTerm);
+    private static boolean hasSilentFirstLetter(String word) {
+        return word.startsWith("kn") || word.startsWith("gn") || word.startsWith("pn") || word.startsWith("ps");
     }
 
+    /**
+     * Returns the code of the letter at {@code index} in {@code word}, {@link #VOWEL_CODE} for a vowel,
+     * or {@link #UNCODED} for a letter that is neither coded nor separates consonants.
+     */
+    private static char getPhoneticCode(String word, int index) {
+        char letter = word.charAt(index);
+        boolean isSoft = index + 1 < word.length() && "eiy".indexOf(word.charAt(index + 1)) >= 0;
+        if ((letter == 'c' && isSoft) || (letter == 'x' && index == 0)) {
+            return PHONETIC_CODES.charAt('s' - 'a');
+        }
+        if (letter == 'g' && isSoft) {
+            return PHONETIC_CODES.charAt('j' - 'a');
+        }
+        return PHONETIC_CODES.charAt(letter - 'a');
+    }
 
     /**
      * Returns a detailed message of the t, including the stack trace.
@@ -92,4 +236,41 @@ public class StringUtil {
             return false;
         }
     }
+
+    /*
+     * The ASCII character tests below let the isValid* methods of the model's fields scan their input directly,
+     * as matching their VALIDATION_REGEX is much slower when loading many persons.
+     */
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d} in a regex.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code s} is not empty and has only ASCII digits, as matched by {@code \d+} in a regex.
+     * Unlike {@link #isPlainInteger(String)}, {@code s} may be of any length and have leading zeros.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAsciiDigits(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAsciiDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,134 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ParallelPersonFilter;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs {@code find} commands while they are being typed, testing the persons away from the thread the model is
+ * used from so that typing is not held up on large address books.
+ * Each search supersedes the searches started before it. A superseded search stops testing persons and its
+ * matches are discarded, so only the latest search is ever shown.
+ * Like other commands, searches are not run while the address book is still loading.
+ */
+public class LiveSearch {
+
+    private final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final Executor searchExecutor;
+    private final Executor modelExecutor;
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+    private final AtomicLong latestSearchId = new AtomicLong();
+
+    /**
+     * Creates a {@code LiveSearch} on the model of {@code logic}, testing persons on {@code searchExecutor}.
+     * {@code modelExecutor} must run tasks on the thread the model is used from, where the matches are shown.
+     */
+    public LiveSearch(Logic logic, Executor searchExecutor, Executor modelExecutor) {
+        requireAllNonNull(logic, searchExecutor, modelExecutor);
+        this.logic = logic;
+        this.model = logic.getModel();
+        this.searchExecutor = searchExecutor;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Returns true if {@code commandText} is a (possibly incomplete) {@code find} command.
+     */
+    public static boolean isSearchCommand(String commandText) {
+        requireNonNull(commandText);
+        String trimmedText = commandText.trim();
+        return trimmedText.equals(FindCommand.COMMAND_WORD)
+                || trimmedText.startsWith(FindCommand.COMMAND_WORD + " ");
+    }
+
+    /**
+     * Starts finding the persons given by the {@code find} command {@code commandText}, superseding earlier searches.
+     * Once the matches are shown in the filtered person list, the result is passed to {@code resultHandler}
+     * on the thread the model is used from. This method must be called from that thread too.
+     * Text that is not a valid {@code find} command, or any text while the address book is still loading,
+     * only cancels the earlier searches.
+     *
+     * @return true if a search was started.
+     */
+    public boolean search(String commandText, Consumer<CommandResult> resultHandler) {
+        requireAllNonNull(commandText, resultHandler);
+        long searchId = latestSearchId.incrementAndGet();
+        if (logic.isLoading() || !isSearchCommand(commandText)) {
+            return false;
+        }
+
+        FindCommand command;
+        try {
+            String arguments = commandText.trim().substring(FindCommand.COMMAND_WORD.length());
+            command = findCommandParser.parse(arguments);
+        } catch (ParseException e) {
+            // Usually a command that is still being typed
+            return false;
+        }
+        startSearch(searchId, command, resultHandler);
+        return true;
+    }
+
+    /**
+     * Cancels the searches started so far, so that none of their matches are shown.
+     */
+    public void cancel() {
+        latestSearchId.incrementAndGet();
+    }
+
+    private boolean isSuperseded(long searchId) {
+        return latestSearchId.get() != searchId;
+    }
+
+    /**
+     * Takes the candidates of {@code command} from the model, then tests them on the search executor.
+     */
+    private void startSearch(long searchId, FindCommand command, Consumer<CommandResult> resultHandler) {
+        List<Person> candidates = model.getSearchCandidates(command.getPredicate());
+        long addressBookVersion = model.getAddressBookVersion();
+        int parallelThreshold = model.getUserPrefs().getParallelFindThreshold();
+        searchExecutor.execute(() -> {
+            Set<Person> matches = ParallelPersonFilter.findMatches(candidates, command.getPredicate(),
+                    parallelThreshold, () -> isSuperseded(searchId));
+            if (isSuperseded(searchId)) {
+                return;
+            }
+            modelExecutor.execute(() -> showMatches(searchId, command, addressBookVersion, matches, resultHandler));
+        });
+    }
+
+    /**
+     * Shows {@code matches}, found in the address book at {@code addressBookVersion}, unless the search has since
+     * been superseded. The search is started again if the address book has changed since.
+     */
+    private void showMatches(long searchId, FindCommand command, long addressBookVersion, Set<Person> matches,
+            Consumer<CommandResult> resultHandler) {
+        if (isSuperseded(searchId)) {
+            return;
+        }
+        if (model.getAddressBookVersion() != addressBookVersion) {
+            logger.fine("Address book changed during live search, searching again");
+            startSearch(searchId, command, resultHandler);
+            return;
+        }
+        resultHandler.accept(command.execute(model, matches));
+    }
+}
@@ -1,20 +1,40 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookReadListener;
 
 /**
  * API of the Logic component
  */
 public interface Logic {
+
+    /**
+     * Reads the address book to load.
+     */
+    @FunctionalInterface
+    interface AddressBookReader {
+        /**
+         * Returns the address book read, or an empty {@code Optional} if there is no address book to read yet.
+         * The persons may also be handed to {@code listener} as they are read, so that they can be shown sooner.
+         *
+         * @throws DataLoadingException if the address book could not be read.
+         */
+        Optional<ReadOnlyAddressBook> read(AddressBookReadListener listener) throws DataLoadingException;
+    }
+
     /**
      * Executes the command and returns the result.
      * @param commandText The command as entered by the user.
@@ -53,4 +73,45 @@ public interface Logic {
      * Returns the Model.
      */
     Model getModel();
+
+    /**
+     * Sets the handler given the error message when saving the address book fails
+     * after the command that changed it has returned. The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> errorHandler);
+
+    /**
+     * Loads the address book read by {@code addressBookReader} into the model on a background thread.
+     * The persons are added to the model in batches as they are read, by tasks run on {@code modelExecutor},
+     * which must run them on the thread the model is used from, so that the persons read so far can be shown
+     * while the rest load. Persons shown that turn out to differ from the address book finally read are replaced.
+     * Commands are rejected until the last batch has been added, after which the loaded handler is run.
+     * If there is no address book to read, sample data is loaded instead and saved after the next command.
+     * If the address book cannot be read, the model is left empty and changes are not saved, so that the data
+     * that could not be read is not overwritten, until the address book is cleared or data is imported.
+     * The model is expected to be empty when loading starts.
+     */
+    void loadAddressBook(AddressBookReader addressBookReader, Executor modelExecutor);
+
+    /**
+     * Returns true while the address book is still being loaded, during which commands are rejected.
+     */
+    boolean isLoading();
+
+    /**
+     * Returns the message explaining why changes are not saved, if loading the address book failed and it has
+     * not been cleared or had data imported since.
+     */
+    Optional<String> getLoadingErrorMessage();
+
+    /**
+     * Sets the handler run once the address book has finished loading.
+     * The handler is run on the thread the model is used from.
+     */
+    void setLoadedHandler(Runnable loadedHandler);
+
+    /**
+     * Returns the number of commands after which saving the address book was skipped because it was unchanged.
+     */
+    long getSkippedSaveCount();
 }
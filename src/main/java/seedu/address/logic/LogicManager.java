@@ -1,20 +1,34 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataUtil;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -27,40 +41,233 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_LOADING = "The address book is still loading, please try again shortly.";
+
+    public static final String MESSAGE_LOADING_FAILED = "The data file %1$s could not be loaded, so the address "
+            + "book is empty. To keep the data file as it is, changes are not saved until you clear the address "
+            + "book or import data.";
+
+    public static final String MESSAGE_SAVING_DISABLED = "The change was not saved, as the data file could not be "
+            + "loaded. Clear the address book or import data to start saving again.";
+
+    /** Number of persons added to the model at a time while loading the address book. */
+    public static final int LOADING_BATCH_SIZE = 1000;
+
+    private static final long UNSAVED_VERSION = -1;
+
+    /** Where the address book loaded into the model came from. */
+    private enum LoadingOutcome { STORED, SAMPLE, FAILED }
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private volatile long savedAddressBookVersion;
+    private long skippedSaveCount;
+    private volatile Consumer<String> saveErrorHandler = unused -> {};
+    private volatile boolean isLoading;
+    // Set while saving is disabled after the address book could not be loaded
+    private volatile String loadingErrorMessage;
+    private Runnable loadedHandler = () -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book data in {@code model} is taken to be already saved in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        storage.setSaveErrorHandler(this::handleSaveError);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (isLoading) {
+            throw new CommandException(MESSAGE_LOADING);
+        }
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (loadingErrorMessage != null) {
+            if (!(command instanceof ClearCommand || command instanceof ImportCommand)) {
+                return skipSaveWhileDisabled(commandResult);
+            }
+            // The user has chosen the data to keep, so it replaces the data file that could not be loaded
+            logger.info("Saving enabled again after the address book was replaced");
+            loadingErrorMessage = null;
+            savedAddressBookVersion = UNSAVED_VERSION;
+        }
+
+        // Commands that leave the address book unchanged, such as find and list, do not need to rewrite the data file.
+        // A save that failed earlier is retried on the next command as the version is only recorded on success.
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipped save (" + skippedSaveCount + " skipped so far)");
+            return commandResult;
+        }
+
+        // The version is recorded before saving, as a background save may fail before saveAddressBook returns
+        long previousSavedVersion = savedAddressBookVersion;
+        savedAddressBookVersion = addressBookVersion;
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedAddressBookVersion = previousSavedVersion;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns {@code commandResult} without saving, as saving is disabled,
+     * or fails if the command changed the address book so that the user knows the change is not saved.
+     */
+    private CommandResult skipSaveWhileDisabled(CommandResult commandResult) throws CommandException {
+        long addressBookVersion = model.getAddressBookVersion();
+        boolean isChanged = addressBookVersion != savedAddressBookVersion;
+        savedAddressBookVersion = addressBookVersion;
+        if (isChanged) {
+            throw new CommandException(MESSAGE_SAVING_DISABLED);
+        }
+        return commandResult;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons are added to the model in batches of {@link #LOADING_BATCH_SIZE}.
+     */
+    @Override
+    public void loadAddressBook(AddressBookReader addressBookReader, Executor modelExecutor) {
+        requireAllNonNull(addressBookReader, modelExecutor);
+        isLoading = true;
+
+        Thread loader = new Thread(() -> {
+            // The persons handed to the model so far, once the model has run the tasks handing them over
+            List<Person> shownPersons = new ArrayList<>();
+            LoadingOutcome outcome = LoadingOutcome.FAILED;
+            LocalDateTime lastUpdated = null;
+            try {
+                Optional<ReadOnlyAddressBook> storedAddressBook = addressBookReader.read((fromIndex, persons) ->
+                        showLoadedPersons(shownPersons, fromIndex, persons, modelExecutor));
+                ReadOnlyAddressBook addressBook = storedAddressBook.orElseGet(SampleDataUtil::getSampleAddressBook);
+
+                // The persons read may differ from those shown, such as after changes replayed from a journal
+                List<Person> persons = addressBook.getPersonList();
+                int unchangedCount = 0;
+                while (unchangedCount < Math.min(shownPersons.size(), persons.size())
+                        && shownPersons.get(unchangedCount).equals(persons.get(unchangedCount))) {
+                    unchangedCount++;
+                }
+                if (unchangedCount < shownPersons.size() || unchangedCount < persons.size()) {
+                    showLoadedPersons(shownPersons, unchangedCount, persons.subList(unchangedCount, persons.size()),
+                            modelExecutor);
+                }
+                lastUpdated = addressBook.getLastUpdated();
+                logger.info("Loaded " + persons.size() + " persons in the background");
+                outcome = storedAddressBook.isPresent() ? LoadingOutcome.STORED : LoadingOutcome.SAMPLE;
+            } catch (DataLoadingException | RuntimeException e) {
+                logger.severe("Failed to load the address book, saving is disabled: " + StringUtil.getDetails(e));
+                if (!shownPersons.isEmpty()) {
+                    showLoadedPersons(shownPersons, 0, List.of(), modelExecutor);
+                }
+            } finally {
+                LoadingOutcome finalOutcome = outcome;
+                LocalDateTime finalLastUpdated = lastUpdated;
+                modelExecutor.execute(() -> finishLoading(finalOutcome, finalLastUpdated));
+            }
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Hands {@code persons} to the model in batches of {@link #LOADING_BATCH_SIZE}, replacing the persons shown
+     * from {@code fromIndex} onwards, and updates {@code shownPersons} to match.
+     */
+    private void showLoadedPersons(List<Person> shownPersons, int fromIndex, List<Person> persons,
+            Executor modelExecutor) {
+        int start = 0;
+        do {
+            List<Person> batch = List.copyOf(
+                    persons.subList(start, Math.min(start + LOADING_BATCH_SIZE, persons.size())));
+            int batchIndex = fromIndex + start;
+            modelExecutor.execute(() -> model.setLoadedPersons(batchIndex, batch));
+            start += LOADING_BATCH_SIZE;
+        } while (start < persons.size());
+
+        shownPersons.subList(fromIndex, shownPersons.size()).clear();
+        shownPersons.addAll(persons);
+    }
+
+    /**
+     * Marks an address book loaded from storage as already saved, or disables saving if it could not be loaded,
+     * then lets commands through. Sample data is left unsaved, so that the next command saves it.
+     */
+    private void finishLoading(LoadingOutcome outcome, LocalDateTime lastUpdated) {
+        if (outcome != LoadingOutcome.FAILED) {
+            model.setLoadedLastUpdated(lastUpdated);
+        }
+        switch (outcome) {
+        case STORED:
+            savedAddressBookVersion = model.getAddressBookVersion();
+            break;
+        case FAILED:
+            savedAddressBookVersion = model.getAddressBookVersion();
+            loadingErrorMessage = String.format(MESSAGE_LOADING_FAILED, model.getAddressBookFilePath());
+            break;
+        default:
+            savedAddressBookVersion = UNSAVED_VERSION;
+            break;
+        }
+        isLoading = false;
+        loadedHandler.run();
+    }
+
+    @Override
+    public Optional<String> getLoadingErrorMessage() {
+        return Optional.ofNullable(loadingErrorMessage);
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void setLoadedHandler(Runnable loadedHandler) {
+        requireNonNull(loadedHandler);
+        this.loadedHandler = loadedHandler;
+    }
+
+    /**
+     * Handles a save that failed after the command that changed the address book returned,
+     * making sure it is saved again after the next command.
+     */
+    private void handleSaveError(IOException ioe) {
+        savedAddressBookVersion = UNSAVED_VERSION;
+        saveErrorHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -90,4 +297,10 @@ public class LogicManager implements Logic {
     public Model getModel() {
         return model;
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> errorHandler) {
+        requireNonNull(errorHandler);
+        saveErrorHandler = errorHandler;
+    }
 }
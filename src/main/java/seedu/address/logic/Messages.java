@@ -13,7 +13,7 @@ import seedu.address.model.person.Person;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command. Available commands: add, edit, "
-            + "delete, clear, find, list, viewrenewals, exit, help, filter, renew";
+            + "delete, clear, find, list, viewrenewals, exit, help, filter, renew, export, import";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
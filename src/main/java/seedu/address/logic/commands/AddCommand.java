@@ -66,10 +66,7 @@ public class AddCommand extends Command {
         requireNonNull(model);
 
         if (model.hasPerson(toAdd)) {
-            Person existingPerson = model.getFilteredPersonList().stream()
-                    .filter(p -> p.isSamePerson(toAdd))
-                    .findFirst()
-                    .get();
+            Person existingPerson = model.findSamePersons(toAdd).get(0);
             throw new CommandException(
                     String.format(
                             MESSAGE_DUPLICATE_PERSON, toAdd.getDuplicateReason(existingPerson)));
@@ -95,8 +95,8 @@ public class EditCommand extends Command {
 
         Person personToEdit = lastShownList.get(index.getZeroBased());
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
-        Person duplicatePerson = model.getFilteredPersonList().stream()
-                .filter(p -> !p.equals(personToEdit) && p.isSamePerson(editedPerson))
+        Person duplicatePerson = model.findSamePersons(editedPerson).stream()
+                .filter(p -> !p.equals(personToEdit))
                 .findFirst()
                 .orElse(null);
         if (duplicatePerson != null) {
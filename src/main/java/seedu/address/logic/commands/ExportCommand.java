@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Exports the address book to a JSON file, whatever the format of the data file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports all persons in the address book to a JSON file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " exports/clients.json";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export the address book to the file at {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            JsonAddressBookStorage.exportAddressBook(model.getAddressBook(), filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                model.getAddressBook().getPersonList().size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -4,10 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.util.Comparator;
-import java.util.function.Predicate;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.RenewalDate;
 
 /**
@@ -53,11 +52,11 @@ public class FilterDateCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Predicate<Person> renewalFilterPredicate = person ->
-                person.getPolicy().isRenewalDueWithinDateRange(startDate, endDate);
-
-        model.updateRenewalsList(renewalFilterPredicate);
-        model.updateSortedRenewalsList(sortFilterDate());
+        // The renewals list comes back in renewal date order, so only sorting by name needs a comparator
+        model.updateRenewalsList(startDate, endDate, AppClock.today());
+        if (!sortOrder.equals("date")) {
+            model.updateSortedRenewalsList(Comparator.comparing(person -> person.getName().fullName));
+        }
 
         if (model.getRenewalsList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_NO_RESULTS,
@@ -82,13 +81,4 @@ public class FilterDateCommand extends Command {
                 && endDate.equals(otherCommand.endDate)
                 && sortOrder.equals(otherCommand.sortOrder);
     }
-
-    private Comparator<Person> sortFilterDate() {
-        if (sortOrder.equals("date")) {
-            return Comparator.comparing(Person::getRenewalDateValue);
-        } else {
-            // Sort by name (alphabetical order)
-            return Comparator.comparing(person -> person.getName().fullName);
-        }
-    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -10,22 +11,34 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_POLICY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NamePhoneticMatchPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.PhoneContainsNumbersPredicate;
 import seedu.address.model.person.PolicyContainsNumbersPredicate;
+import seedu.address.model.person.PolicyType;
 import seedu.address.model.person.PolicyTypeContainsKeywordsPredicate;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SearchFieldPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
 /**
@@ -39,6 +52,8 @@ public class FindCommand extends Command {
     // to fix this in next push commit.
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose details contain any of "
             + "the specified information (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Prefix a name with ~ to also match names with a few typing mistakes, e.g. " + PREFIX_NAME + "~jonh, "
+            + "or with ? to match names that sound alike, e.g. " + PREFIX_NAME + "?kathryn.\n"
             + "Parameters: [" + PREFIX_NAME + "NAME]... "
             + "[" + PREFIX_PHONE + "PHONE]... "
             + "[" + PREFIX_EMAIL + "EMAIL]... "
@@ -92,12 +107,29 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Shows the persons in {@code matches} as {@link #execute(Model)} would, where {@code matches} are the persons
+     * currently in {@code model} that satisfy the predicate of this command, found without the model.
+     */
+    public CommandResult execute(Model model, Set<Person> matches) {
+        requireAllNonNull(model, matches);
+        model.updateFilteredPersonList(predicate, matches);
+        model.updateSortedPersonList(getComparator());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    public FindPersonsPredicate getPredicate() {
+        return predicate;
+    }
+
     private Comparator<Person> getComparator() {
-        if (SORT_BY_TAG.equals(sortOrder)) {
-            return TAG_COMPARATOR;
-        } else {
-            return NAME_COMPARATOR;
-        }
+        Comparator<Person> comparator = SORT_BY_TAG.equals(sortOrder) ? TAG_COMPARATOR : NAME_COMPARATOR;
+        // Closer fuzzy name matches are ranked first
+        return predicate.getFuzzyNamePredicate()
+                .map(fuzzyNamePredicate -> Comparator.<Person>comparingInt(fuzzyNamePredicate::getEditDistance)
+                        .thenComparing(comparator))
+                .orElse(comparator);
     }
 
     @Override
@@ -126,15 +158,20 @@ public class FindCommand extends Command {
     /**
      * Represents a predicate used to filter persons by their details.
      * Multiple predicates can be set for one or more fields.
+     * Matches can be narrowed down through the search indexes unless a policy type or tag predicate is set.
+     * Persons are tested against a {@link CompiledQuery} built from the predicates, rather than each predicate.
      */
-    public static class FindPersonsPredicate implements Predicate<Person> {
+    public static class FindPersonsPredicate implements IndexedPersonPredicate {
         private NameContainsKeywordsPredicate namePredicate;
+        private NameFuzzyMatchPredicate fuzzyNamePredicate;
+        private NamePhoneticMatchPredicate phoneticNamePredicate;
         private PhoneContainsNumbersPredicate phonePredicate;
         private EmailContainsKeywordsPredicate emailPredicate;
         private AddressContainsKeywordsPredicate addressPredicate;
         private PolicyContainsNumbersPredicate policyPredicate;
         private PolicyTypeContainsKeywordsPredicate policyTypePredicate;
         private TagContainsKeywordsPredicate tagPredicate;
+        private CompiledQuery compiledQuery;
 
         public FindPersonsPredicate() {
         }
@@ -144,6 +181,8 @@ public class FindCommand extends Command {
          */
         public FindPersonsPredicate(FindPersonsPredicate toCopy) {
             setNamePredicate(toCopy.namePredicate);
+            setFuzzyNamePredicate(toCopy.fuzzyNamePredicate);
+            setPhoneticNamePredicate(toCopy.phoneticNamePredicate);
             setPhonePredicate(toCopy.phonePredicate);
             setEmailPredicate(toCopy.emailPredicate);
             setAddressPredicate(toCopy.addressPredicate);
@@ -158,6 +197,8 @@ public class FindCommand extends Command {
         public boolean isAnyPredicateSet() {
             return CollectionUtil.isAnyNonNull(
                     namePredicate,
+                    fuzzyNamePredicate,
+                    phoneticNamePredicate,
                     phonePredicate,
                     emailPredicate,
                     addressPredicate,
@@ -168,36 +209,61 @@ public class FindCommand extends Command {
 
         public void setNamePredicate(NameContainsKeywordsPredicate namePredicate) {
             this.namePredicate = namePredicate;
+            compiledQuery = null;
+        }
+
+        public void setFuzzyNamePredicate(NameFuzzyMatchPredicate fuzzyNamePredicate) {
+            this.fuzzyNamePredicate = fuzzyNamePredicate;
+            compiledQuery = null;
+        }
+
+        public void setPhoneticNamePredicate(NamePhoneticMatchPredicate phoneticNamePredicate) {
+            this.phoneticNamePredicate = phoneticNamePredicate;
+            compiledQuery = null;
         }
 
         public void setPhonePredicate(PhoneContainsNumbersPredicate phonePredicate) {
             this.phonePredicate = phonePredicate;
+            compiledQuery = null;
         }
 
         public void setEmailPredicate(EmailContainsKeywordsPredicate emailPredicate) {
             this.emailPredicate = emailPredicate;
+            compiledQuery = null;
         }
 
         public void setAddressPredicate(AddressContainsKeywordsPredicate addressPredicate) {
             this.addressPredicate = addressPredicate;
+            compiledQuery = null;
         }
 
         public void setPolicyPredicate(PolicyContainsNumbersPredicate policyPredicate) {
             this.policyPredicate = policyPredicate;
+            compiledQuery = null;
         }
 
         public void setPolicyTypePredicate(PolicyTypeContainsKeywordsPredicate policyTypePredicate) {
             this.policyTypePredicate = policyTypePredicate;
+            compiledQuery = null;
         }
 
         public void setTagPredicate(TagContainsKeywordsPredicate tagPredicate) {
             this.tagPredicate = tagPredicate;
+            compiledQuery = null;
         }
 
         public Optional<NameContainsKeywordsPredicate> getNamePredicate() {
             return Optional.ofNullable(namePredicate);
         }
 
+        public Optional<NameFuzzyMatchPredicate> getFuzzyNamePredicate() {
+            return Optional.ofNullable(fuzzyNamePredicate);
+        }
+
+        public Optional<NamePhoneticMatchPredicate> getPhoneticNamePredicate() {
+            return Optional.ofNullable(phoneticNamePredicate);
+        }
+
         public Optional<PhoneContainsNumbersPredicate> getPhonePredicate() {
             return Optional.ofNullable(phonePredicate);
         }
@@ -222,17 +288,52 @@ public class FindCommand extends Command {
             return Optional.ofNullable(tagPredicate);
         }
 
+        /**
+         * Returns true if any of the predicates set matches {@code person}.
+         * The predicates are compiled into a {@link CompiledQuery} the first time a person is tested.
+         */
         @Override
         public boolean test(Person person) {
-            boolean nameMatch = getNamePredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean phoneMatch = getPhonePredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean emailMatch = getEmailPredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean addressMatch = getAddressPredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean policyMatch = getPolicyPredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean policyTypeMatch = getPolicyTypePredicate().map(pred -> pred.test(person)).orElse(false);
-            boolean tagMatch = getTagPredicate().map(pred -> pred.test(person)).orElse(false);
-            // Match if any predicate matches (OR logic)
-            return nameMatch || phoneMatch || emailMatch || addressMatch || policyMatch || policyTypeMatch || tagMatch;
+            CompiledQuery query = compiledQuery;
+            if (query == null) {
+                query = new CompiledQuery(this);
+                compiledQuery = query;
+            }
+            return query.matches(person);
+        }
+
+        @Override
+        public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+            if (policyTypePredicate != null || tagPredicate != null) {
+                return Optional.empty();
+            }
+
+            List<IndexedPersonPredicate> indexedPredicates = new ArrayList<>(getSearchFieldPredicates());
+            if (fuzzyNamePredicate != null) {
+                indexedPredicates.add(fuzzyNamePredicate);
+            }
+            if (phoneticNamePredicate != null) {
+                indexedPredicates.add(phoneticNamePredicate);
+            }
+            Set<Person> candidates = PersonSearchIndex.newPersonSet();
+            for (IndexedPersonPredicate predicate : indexedPredicates) {
+                Optional<Set<Person>> predicateCandidates = predicate.getCandidates(index);
+                if (predicateCandidates.isEmpty()) {
+                    return Optional.empty();
+                }
+                candidates.addAll(predicateCandidates.get());
+            }
+            return Optional.of(candidates);
+        }
+
+        /**
+         * Returns the predicates set on searchable fields.
+         */
+        private List<SearchFieldPredicate> getSearchFieldPredicates() {
+            return Stream.<SearchFieldPredicate>of(
+                            namePredicate, phonePredicate, emailPredicate, addressPredicate, policyPredicate)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
         }
 
         @Override
@@ -248,6 +349,8 @@ public class FindCommand extends Command {
 
             FindPersonsPredicate otherFindPersonsPredicate = (FindPersonsPredicate) other;
             return Objects.equals(namePredicate, otherFindPersonsPredicate.namePredicate)
+                    && Objects.equals(fuzzyNamePredicate, otherFindPersonsPredicate.fuzzyNamePredicate)
+                    && Objects.equals(phoneticNamePredicate, otherFindPersonsPredicate.phoneticNamePredicate)
                     && Objects.equals(phonePredicate, otherFindPersonsPredicate.phonePredicate)
                     && Objects.equals(emailPredicate, otherFindPersonsPredicate.emailPredicate)
                     && Objects.equals(addressPredicate, otherFindPersonsPredicate.addressPredicate)
@@ -256,10 +359,18 @@ public class FindCommand extends Command {
                     && Objects.equals(tagPredicate, otherFindPersonsPredicate.tagPredicate);
         }
 
+        @Override
+        public int hashCode() {
+            return Objects.hash(namePredicate, fuzzyNamePredicate, phoneticNamePredicate, phonePredicate,
+                    emailPredicate, addressPredicate, policyPredicate, policyTypePredicate, tagPredicate);
+        }
+
         @Override
         public String toString() {
             return new ToStringBuilder(this)
                     .add("namePredicate", namePredicate)
+                    .add("fuzzyNamePredicate", fuzzyNamePredicate)
+                    .add("phoneticNamePredicate", phoneticNamePredicate)
                     .add("phonePredicate", phonePredicate)
                     .add("emailPredicate", emailPredicate)
                     .add("addressPredicate", addressPredicate)
@@ -268,5 +379,74 @@ public class FindCommand extends Command {
                     .add("tagPredicate", tagPredicate)
                     .toString();
         }
+
+        /**
+         * A find query compiled into flat arrays, so that testing a person allocates nothing and stops at the
+         * first match. Only the predicates that are set are kept.
+         *
+         * As a person matches if any predicate does, the checks estimated to match the most persons come first:
+         * policy types, as each covers a sizeable share of the book, then tags, then searchable fields in order
+         * of their shortest search term, as shorter terms match more persons. Within a field, shorter terms are
+         * also tried first. Sound-alike name matching, which looks up the precomputed phonetic keys of the name,
+         * comes next, and fuzzy name matching, which computes edit distances, comes last.
+         */
+        private static class CompiledQuery {
+            private final PolicyType[] policyTypes;
+            private final String[] tagSearchTerms;
+            private final SearchField[] fields;
+            private final String[][] fieldSearchTerms;
+            private final NamePhoneticMatchPredicate phoneticNamePredicate;
+            private final NameFuzzyMatchPredicate fuzzyNamePredicate;
+
+            CompiledQuery(FindPersonsPredicate predicate) {
+                policyTypes = predicate.getPolicyTypePredicate()
+                        .flatMap(PolicyTypeContainsKeywordsPredicate::getPolicyTypes)
+                        .map(types -> types.toArray(new PolicyType[0]))
+                        .orElse(new PolicyType[0]);
+                tagSearchTerms = predicate.getTagPredicate()
+                        .map(tagPredicate -> tagPredicate.getTagSearchTerms().toArray(new String[0]))
+                        .orElse(new String[0]);
+
+                List<SearchFieldPredicate> fieldPredicates = new ArrayList<>(predicate.getSearchFieldPredicates());
+                fieldPredicates.sort(Comparator.comparingInt(CompiledQuery::shortestSearchTermLength));
+                fields = new SearchField[fieldPredicates.size()];
+                fieldSearchTerms = new String[fieldPredicates.size()][];
+                for (int i = 0; i < fieldPredicates.size(); i++) {
+                    fields[i] = fieldPredicates.get(i).getSearchField();
+                    fieldSearchTerms[i] = fieldPredicates.get(i).getSearchTerms().stream()
+                            .sorted(Comparator.comparingInt(String::length))
+                            .toArray(String[]::new);
+                }
+                phoneticNamePredicate = predicate.phoneticNamePredicate;
+                fuzzyNamePredicate = predicate.fuzzyNamePredicate;
+            }
+
+            boolean matches(Person person) {
+                if (policyTypes.length > 0) {
+                    PolicyType personPolicyType = person.getPolicy().getType();
+                    for (PolicyType policyType : policyTypes) {
+                        if (policyType == personPolicyType) {
+                            return true;
+                        }
+                    }
+                }
+                if (tagSearchTerms.length > 0 && person.hasAnyTag(tagSearchTerms)) {
+                    return true;
+                }
+                for (int i = 0; i < fields.length; i++) {
+                    if (StringUtil.containsAnySearchTerm(person.getSearchKey(fields[i]), fieldSearchTerms[i])) {
+                        return true;
+                    }
+                }
+                if (phoneticNamePredicate != null && phoneticNamePredicate.test(person)) {
+                    return true;
+                }
+                return fuzzyNamePredicate != null && fuzzyNamePredicate.test(person);
+            }
+
+            private static int shortestSearchTermLength(SearchFieldPredicate predicate) {
+                return predicate.getSearchTerms().stream().mapToInt(String::length).min().orElse(Integer.MAX_VALUE);
+            }
+        }
     }
 }
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Imports the persons in a JSON file into the address book, whatever the format of the data file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons in a JSON file, such as one written by export, to the address book. "
+            + "Persons already in the address book are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " exports/clients.json";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s (%3$d already in the address book)";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the persons in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyAddressBook importedAddressBook;
+        try {
+            importedAddressBook = JsonAddressBookStorage.importAddressBook(filePath);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, e.getMessage()), e);
+        }
+
+        int importedCount = 0;
+        int skippedCount = 0;
+        for (Person person : importedAddressBook.getPersonList()) {
+            if (model.hasPerson(person)) {
+                skippedCount++;
+            } else {
+                model.addPerson(person);
+                importedCount++;
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importedCount, filePath, skippedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
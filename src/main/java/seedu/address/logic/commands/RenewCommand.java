@@ -51,8 +51,7 @@ public class RenewCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         // Find the person with the specified policy number
-        List<Person> matchingPersons = model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getPolicy().getPolicyNumber().equals(policyNumber)).toList();
+        List<Person> matchingPersons = model.findByPolicyNumber(policyNumber);
 
         if (matchingPersons.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_POLICY_NOT_FOUND, policyNumber));
@@ -7,8 +7,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.RenewalDate;
@@ -52,14 +52,15 @@ public class ViewRenewalsCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Predicate<Person> renewalPredicate = person -> person.getPolicy().isRenewalDueWithin(days);
-
-        model.updateRenewalsList(renewalPredicate);
-        model.updateSortedRenewalsList(getComparator());
-
-        LocalDate startDate = LocalDate.now();
+        LocalDate startDate = AppClock.today();
         LocalDate endDate = startDate.plusDays(days);
 
+        // The renewals list comes back in renewal date order, so only sorting by name needs a comparator
+        model.updateRenewalsList(startDate, endDate, startDate);
+        if (SORT_BY_NAME.equals(sortOrder)) {
+            model.updateSortedRenewalsList(Comparator.comparing(person -> person.getName().fullName));
+        }
+
         if (model.getRenewalsList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_NO_RENEWALS, days));
         }
@@ -68,15 +69,6 @@ public class ViewRenewalsCommand extends Command {
             endDate.format(RenewalDate.DATE_FORMATTER)));
     }
 
-    private Comparator<Person> getComparator() {
-        if (SORT_BY_NAME.equals(sortOrder)) {
-            return Comparator.comparing(person -> person.getName().fullName);
-        } else {
-            // Sort by days until renewal (ascending order)
-            return Comparator.comparingLong(person -> person.getPolicy().getDaysUntilRenewal());
-        }
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATE;
 
 import java.time.LocalDate;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.logic.commands.FilterDateCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -48,7 +49,7 @@ public class FilterDateCommandParser implements Parser<FilterDateCommand> {
             throw new ParseException(MESSAGE_INVALID_START_DATE);
         }
 
-        LocalDate maxAllowedDate = LocalDate.now().plusYears(MAX_YEARS_RANGE);
+        LocalDate maxAllowedDate = AppClock.today().plusYears(MAX_YEARS_RANGE);
         if (endDate.isAfter(maxAllowedDate)) {
             throw new ParseException(MESSAGE_INVALID_END_DATE);
         }
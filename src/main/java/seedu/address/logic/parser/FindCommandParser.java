@@ -11,12 +11,17 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_POLICY_TYPE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.FindPersonsPredicate;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NamePhoneticMatchPredicate;
 import seedu.address.model.person.PhoneContainsNumbersPredicate;
 import seedu.address.model.person.PolicyContainsNumbersPredicate;
 import seedu.address.model.person.PolicyTypeContainsKeywordsPredicate;
@@ -30,6 +35,12 @@ public class FindCommandParser implements Parser<FindCommand> {
     public static final String TAG_EMPTY = "Tag cannot be empty. Use a valid tag.";
     public static final String MESSAGE_INVALID_SORT = "Invalid sort order. Use 'name' or 'tag'";
 
+    /** Marks a name to find as a fuzzy one, matching names within a few typing mistakes of it. */
+    public static final String FUZZY_NAME_MARKER = "~";
+
+    /** Marks a name to find as a phonetic one, matching names that sound like it. */
+    public static final String PHONETIC_NAME_MARKER = "?";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -51,8 +62,31 @@ public class FindCommandParser implements Parser<FindCommand> {
         FindCommand.FindPersonsPredicate findPersonsPredicate = new FindPersonsPredicate();
 
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            findPersonsPredicate.setNamePredicate(new NameContainsKeywordsPredicate(
-                    ParserUtil.parseNames(argMultimap.getAllValues(PREFIX_NAME))));
+            List<String> names = new ArrayList<>();
+            List<String> fuzzyNames = new ArrayList<>();
+            List<String> phoneticNames = new ArrayList<>();
+            for (String name : argMultimap.getAllValues(PREFIX_NAME)) {
+                String trimmedName = name.trim();
+                if (trimmedName.startsWith(FUZZY_NAME_MARKER)) {
+                    fuzzyNames.add(trimmedName.substring(FUZZY_NAME_MARKER.length()));
+                } else if (trimmedName.startsWith(PHONETIC_NAME_MARKER)) {
+                    phoneticNames.add(trimmedName.substring(PHONETIC_NAME_MARKER.length()));
+                } else {
+                    names.add(name);
+                }
+            }
+            if (!names.isEmpty()) {
+                findPersonsPredicate.setNamePredicate(new NameContainsKeywordsPredicate(
+                        ParserUtil.parseNames(names)));
+            }
+            if (!fuzzyNames.isEmpty()) {
+                findPersonsPredicate.setFuzzyNamePredicate(new NameFuzzyMatchPredicate(
+                        ParserUtil.parseNames(fuzzyNames)));
+            }
+            if (!phoneticNames.isEmpty()) {
+                findPersonsPredicate.setPhoneticNamePredicate(new NamePhoneticMatchPredicate(
+                        ParserUtil.parseNames(phoneticNames)));
+            }
         }
         if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
             findPersonsPredicate.setPhonePredicate(new PhoneContainsNumbersPredicate(
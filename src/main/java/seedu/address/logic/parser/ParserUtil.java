@@ -2,6 +2,9 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -31,6 +34,7 @@ public class ParserUtil {
     public static final String MESSAGE_EMPTY_INDEX = "Index is not provided. Please enter a valid index.";
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer. "
                                             + "Please use an integer from the current valid range.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not provided or is not a valid path.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -308,4 +312,23 @@ public class ParserUtil {
             throw new ParseException(FilterDateCommandParser.MESSAGE_INVALID_DATE_FORMAT);
         }
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+    }
 }
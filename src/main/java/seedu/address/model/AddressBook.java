@@ -2,12 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.DateTimeParser;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -19,6 +24,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final RenewalDateIndex renewalDateIndex = new RenewalDateIndex();
 
     private LocalDateTime lastUpdated;
 
@@ -34,7 +40,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     public AddressBook() {
-        this.lastUpdated = LocalDateTime.now();
+        this.lastUpdated = AppClock.now();
     }
 
     /**
@@ -53,6 +59,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        renewalDateIndex.setAll(persons);
     }
 
     /**
@@ -74,12 +81,47 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons in the address book whose policy number is {@code policyNumber}.
+     */
+    public List<Person> findByPolicyNumber(String policyNumber) {
+        requireNonNull(policyNumber);
+        return persons.getByPolicyNumber(policyNumber);
+    }
+
+    /**
+     * Returns the persons in the address book with the same identity as {@code person}.
+     */
+    public List<Person> findSamePersons(Person person) {
+        requireNonNull(person);
+        return persons.getSamePersons(person);
+    }
+
+    /**
+     * Returns the persons in the address book that may satisfy {@code predicate},
+     * or {@code Optional#empty()} if they cannot be narrowed down without testing every person.
+     */
+    public Optional<Set<Person>> findCandidates(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.getCandidates(predicate);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        renewalDateIndex.add(p);
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book as a single change.
+     * None of the persons may already exist in the address book, nor be duplicates of each other.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        toAdd.forEach(renewalDateIndex::add);
     }
 
     /**
@@ -91,6 +133,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        renewalDateIndex.remove(target);
+        renewalDateIndex.add(editedPerson);
     }
 
     /**
@@ -99,6 +143,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        renewalDateIndex.remove(key);
+    }
+
+    /**
+     * Returns the persons whose policy renewal date falls between {@code startDate} and {@code endDate} inclusive,
+     * ordered by renewal date.
+     */
+    public List<Person> getPersonsRenewingBetween(LocalDate startDate, LocalDate endDate) {
+        return renewalDateIndex.getPersonsRenewingBetween(startDate, endDate);
     }
 
     public LocalDateTime getLastUpdated() {
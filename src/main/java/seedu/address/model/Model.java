@@ -1,7 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -56,11 +60,29 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book data.
+     * The version changes every time a person is added, edited or deleted, or the data is replaced,
+     * so an unchanged version means the data does not need to be saved again.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book whose policy number is {@code policyNumber}.
+     */
+    List<Person> findByPolicyNumber(String policyNumber);
+
+    /**
+     * Returns the persons in the address book with the same identity as {@code person}.
+     * Persons sharing the policy number are listed first.
+     */
+    List<Person> findSamePersons(Person person);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -73,6 +95,18 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Replaces the persons from {@code fromIndex} onwards with the given persons, as read from storage.
+     * {@code fromIndex} must not be more than the number of persons, and the persons must not be duplicates
+     * of each other or of the persons before {@code fromIndex}.
+     */
+    void setLoadedPersons(int fromIndex, List<Person> persons);
+
+    /**
+     * Sets the address book's last updated time to {@code lastUpdated}, as read from storage.
+     */
+    void setLoadedLastUpdated(LocalDateTime lastUpdated);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -86,18 +120,47 @@ public interface Model {
     /** Returns an unmodifiable view of the renewals list */
     ObservableList<Person> getRenewalsList();
 
+    /**
+     * Returns the date the days left of the renewals list are counted from.
+     */
+    LocalDate getRenewalsDate();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, given
+     * {@code matches}, the persons currently in the address book that satisfy it.
+     * Persons added to the address book afterwards are tested against {@code predicate} itself.
+     * @throws NullPointerException if {@code predicate} or {@code matches} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matches);
+
+    /**
+     * Returns the persons currently in the address book that may satisfy {@code predicate}, including every person
+     * that does. The returned list is not changed by later changes to the address book, so it can be tested on
+     * another thread while the model is in use.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> getSearchCandidates(Predicate<Person> predicate);
+
     /**
      * Updates the filter of the renewals list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateRenewalsList(Predicate<Person> predicate);
 
+    /**
+     * Updates the renewals list to hold the persons whose renewal date falls between {@code startDate} and
+     * {@code endDate} inclusive, in renewal date order. Clears any sorting previously set on the renewals list.
+     * The days left of the renewals are counted from {@code today}, the date the caller took as the current date.
+     * @throws NullPointerException if {@code startDate}, {@code endDate} or {@code today} is null.
+     */
+    void updateRenewalsList(LocalDate startDate, LocalDate endDate, LocalDate today);
+
     /**
      * Updates the sorting of the renewals list using the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -4,21 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -27,14 +33,25 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    /** Number of results of each kind of query cached, so that queries run again on unchanged data are answered. */
+    static final int QUERY_CACHE_CAPACITY = 16;
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
     private final ObservableList<Person> renewalsListSource;
     private final FilteredList<Person> filteredRenewalsList;
+    private final ObservableList<Person> unmodifiableRenewalsList;
     private Comparator<Person> renewalsComparator;
     private Predicate<Person> lastRenewalsPredicate;
+    private LocalDate renewalsStartDate;
+    private LocalDate renewalsEndDate;
+    private LocalDate renewalsDate;
+    private long addressBookVersion;
+    private final QueryCache<Predicate<Person>, Set<Person>> findResultCache = new QueryCache<>(QUERY_CACHE_CAPACITY);
+    private final QueryCache<List<LocalDate>, List<Person>> renewalsResultCache =
+            new QueryCache<>(QUERY_CACHE_CAPACITY);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -50,7 +67,10 @@ public class ModelManager implements Model {
         sortedPersons = new SortedList<>(filteredPersons);
         renewalsListSource = FXCollections.observableArrayList();
         filteredRenewalsList = new FilteredList<>(renewalsListSource);
+        unmodifiableRenewalsList = FXCollections.unmodifiableObservableList(filteredRenewalsList);
         renewalsComparator = null;
+        renewalsDate = AppClock.today();
+        this.addressBook.getPersonList().addListener(this::handlePersonListChange);
     }
 
     public ModelManager() {
@@ -97,6 +117,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        addressBookVersion++;
     }
 
     @Override
@@ -104,34 +125,72 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public List<Person> findByPolicyNumber(String policyNumber) {
+        requireNonNull(policyNumber);
+        return addressBook.findByPolicyNumber(policyNumber);
+    }
+
+    @Override
+    public List<Person> findSamePersons(Person person) {
+        requireNonNull(person);
+        return addressBook.findSamePersons(person);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        addressBook.setLastUpdated(LocalDateTime.now());
+        addressBook.setLastUpdated(AppClock.now());
+        addressBookVersion++;
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        addressBook.setLastUpdated(LocalDateTime.now());
+        addressBook.setLastUpdated(AppClock.now());
+        addressBookVersion++;
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void setLoadedPersons(int fromIndex, List<Person> persons) {
+        requireNonNull(persons);
+        List<Person> currentPersons = addressBook.getPersonList();
+        if (fromIndex == currentPersons.size()) {
+            addressBook.addPersons(persons);
+        } else {
+            // Only when reading starts again or replayed changes differ from what was read, so seldom worth more
+            List<Person> replacement = new ArrayList<>(currentPersons.subList(0, fromIndex));
+            replacement.addAll(persons);
+            addressBook.setPersons(replacement);
+        }
+        addressBookVersion++;
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void setLoadedLastUpdated(LocalDateTime lastUpdated) {
+        addressBook.setLastUpdated(lastUpdated);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
-        addressBook.setLastUpdated(LocalDateTime.now());
-        if (lastRenewalsPredicate != null && !renewalsListSource.isEmpty()) {
-            updateRenewalsList(lastRenewalsPredicate);
-        }
+        addressBook.setLastUpdated(AppClock.now());
+        addressBookVersion++;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -147,26 +206,129 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getRenewalsList() {
-        return FXCollections.unmodifiableObservableList(filteredRenewalsList);
+        return unmodifiableRenewalsList;
     }
 
+    @Override
+    public LocalDate getRenewalsDate() {
+        return renewalsDate;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the matches of {@code predicate} can be narrowed down through the search indexes,
+     * only the candidate persons are tested against it. Indexed predicates on books of at least
+     * {@link ReadOnlyUserPrefs#getParallelFindThreshold()} persons are tested on several threads,
+     * and the matches published to the filtered list in a single change.
+     * The matches of indexed predicates are cached until the address book changes.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (!(predicate instanceof IndexedPersonPredicate)) {
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        LocalDate today = AppClock.today();
+        Optional<Set<Person>> cachedMatches = findResultCache.get(predicate, addressBookVersion, today);
+        if (cachedMatches.isPresent()) {
+            logger.fine("Find results taken from cache: " + predicate);
+            setFilteredPersonMatches(predicate, cachedMatches.get());
+            return;
+        }
+
+        Optional<Set<Person>> candidates = addressBook.findCandidates((IndexedPersonPredicate) predicate);
+        List<Person> persons = candidates.isPresent()
+                ? new ArrayList<>(candidates.get())
+                : addressBook.getPersonList();
+        Set<Person> matches = ParallelPersonFilter.findMatches(persons, predicate,
+                userPrefs.getParallelFindThreshold());
+        findResultCache.put(predicate, addressBookVersion, today, matches);
+        setFilteredPersonMatches(predicate, matches);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matches) {
+        requireAllNonNull(predicate, matches);
+        if (predicate instanceof IndexedPersonPredicate) {
+            findResultCache.put(predicate, addressBookVersion, AppClock.today(), matches);
+        }
+        setFilteredPersonMatches(predicate, matches);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the candidates of {@code predicate} in the search indexes are returned if they can narrow them down.
+     */
+    @Override
+    public List<Person> getSearchCandidates(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof IndexedPersonPredicate) {
+            Optional<Set<Person>> candidates = addressBook.findCandidates((IndexedPersonPredicate) predicate);
+            if (candidates.isPresent()) {
+                return new ArrayList<>(candidates.get());
+            }
+        }
+        return new ArrayList<>(addressBook.getPersonList());
+    }
+
+    /**
+     * Filters the person list down to {@code matches}, the persons currently satisfying {@code predicate}.
+     * Persons added to the address book afterwards are tested against {@code predicate} itself.
+     */
+    private void setFilteredPersonMatches(Predicate<Person> predicate, Set<Person> matches) {
+        KnownMatchesPredicate knownMatchesPredicate = new KnownMatchesPredicate(predicate, matches);
+        filteredPersons.setPredicate(knownMatchesPredicate);
+        knownMatchesPredicate.forgetMatches();
     }
 
     @Override
     public void updateRenewalsList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         lastRenewalsPredicate = predicate;
-        // Clear the current renewals list
-        renewalsListSource.clear();
-        // Add all persons that match the predicate
-        List<Person> matchingPersons = addressBook.getPersonList().stream()
-                .filter(predicate)
-                .collect(Collectors.toList());
-        renewalsListSource.addAll(matchingPersons);
+        renewalsStartDate = null;
+        renewalsEndDate = null;
+        renewalsDate = AppClock.today();
+        refreshRenewalsList();
+    }
+
+    @Override
+    public void updateRenewalsList(LocalDate startDate, LocalDate endDate, LocalDate today) {
+        requireAllNonNull(startDate, endDate, today);
+        lastRenewalsPredicate = null;
+        renewalsStartDate = startDate;
+        renewalsEndDate = endDate;
+        // Set before the list changes, so that listeners count the days left of the new renewals from it
+        renewalsDate = today;
+        // Results of the date range index are already in renewal date order
+        renewalsComparator = null;
+
+        List<LocalDate> dateRange = List.of(startDate, endDate);
+        Optional<List<Person>> cachedRenewals = renewalsResultCache.get(dateRange, addressBookVersion, today);
+        if (cachedRenewals.isPresent()) {
+            logger.fine("Renewals taken from cache: " + dateRange);
+            renewalsListSource.setAll(cachedRenewals.get());
+            return;
+        }
+        refreshRenewalsList();
+        renewalsResultCache.put(dateRange, addressBookVersion, today, List.copyOf(renewalsListSource));
+    }
+
+    /**
+     * Recomputes the renewals list from the date range or predicate it was last updated with,
+     * then applies the current renewals comparator if one is set.
+     */
+    private void refreshRenewalsList() {
+        List<Person> matchingPersons;
+        if (renewalsStartDate != null) {
+            matchingPersons = addressBook.getPersonsRenewingBetween(renewalsStartDate, renewalsEndDate);
+        } else {
+            matchingPersons = addressBook.getPersonList().stream()
+                    .filter(lastRenewalsPredicate)
+                    .collect(Collectors.toList());
+        }
+        renewalsListSource.setAll(matchingPersons);
         // Apply sorting if a comparator is set
         if (renewalsComparator != null) {
             updateSortedRenewalsList(renewalsComparator);
@@ -182,12 +344,143 @@ public class ModelManager implements Model {
     public void updateSortedRenewalsList(Comparator<Person> comparator) {
         requireNonNull(comparator);
         this.renewalsComparator = comparator;
-        // Create a sorted copy of the current list
         List<Person> sortedList = new ArrayList<>(renewalsListSource);
         sortedList.sort(comparator);
-        // Clear and repopulate the source list in the sorted order
-        renewalsListSource.clear();
-        renewalsListSource.addAll(sortedList);
+        // Repopulate the source list in a single change so that listeners are only notified once
+        renewalsListSource.setAll(sortedList);
+    }
+
+    //=========== Incremental renewals list maintenance ======================================================
+
+    /**
+     * Keeps the renewals list in step with single person additions, edits and deletions in the address book
+     * without recomputing the whole list. Bulk changes, and changes while the renewals list has no known order,
+     * fall back to {@link #refreshRenewalsList()}.
+     */
+    private void handlePersonListChange(ListChangeListener.Change<? extends Person> change) {
+        if (lastRenewalsPredicate == null && renewalsStartDate == null) {
+            return;
+        }
+
+        int changeCount = 0;
+        boolean isSingleElementChange = true;
+        Person removedPerson = null;
+        Person addedPerson = null;
+        while (change.next()) {
+            changeCount++;
+            if (change.wasPermutated() || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                isSingleElementChange = false;
+                continue;
+            }
+            removedPerson = (change.getRemovedSize() == 1) ? change.getRemoved().get(0) : null;
+            addedPerson = change.wasAdded() ? change.getAddedSubList().get(0) : null;
+        }
+
+        Comparator<Person> order = getRenewalsOrder();
+        if (changeCount > 1 || !isSingleElementChange || order == null) {
+            refreshRenewalsList();
+            return;
+        }
+        applyRenewalsChange(removedPerson, addedPerson, order);
+    }
+
+    /**
+     * Replaces {@code removedPerson} with {@code addedPerson} in the renewals list, keeping it in {@code order}.
+     * Either person may be null. An edit that leaves the person in the same position is applied as a single set.
+     */
+    private void applyRenewalsChange(Person removedPerson, Person addedPerson, Comparator<Person> order) {
+        int removedIndex = (removedPerson == null) ? -1 : indexOfRenewal(removedPerson, order);
+        boolean isAddedRenewal = addedPerson != null && isInRenewalsQuery(addedPerson);
+
+        if (removedIndex >= 0 && isAddedRenewal && isInOrderAt(removedIndex, addedPerson, order)) {
+            renewalsListSource.set(removedIndex, addedPerson);
+            return;
+        }
+        if (removedIndex >= 0) {
+            renewalsListSource.remove(removedIndex);
+        }
+        if (isAddedRenewal) {
+            renewalsListSource.add(insertionIndexOf(addedPerson, order), addedPerson);
+        }
+    }
+
+    /**
+     * Returns the order the renewals list is currently kept in, or null if it follows address book order.
+     */
+    private Comparator<Person> getRenewalsOrder() {
+        if (renewalsComparator != null) {
+            return renewalsComparator;
+        }
+        if (renewalsStartDate != null) {
+            return Comparator.comparingInt(Person::getRenewalEpochDay);
+        }
+        return null;
+    }
+
+    private boolean isInRenewalsQuery(Person person) {
+        if (renewalsStartDate == null) {
+            return lastRenewalsPredicate.test(person);
+        }
+        int renewalDay = person.getRenewalEpochDay();
+        return renewalDay >= renewalsStartDate.toEpochDay() && renewalDay <= renewalsEndDate.toEpochDay();
+    }
+
+    /**
+     * Returns the index of {@code person} in the renewals list, or -1 if it is not in the list.
+     */
+    private int indexOfRenewal(Person person, Comparator<Person> order) {
+        if (!isInRenewalsQuery(person)) {
+            return -1;
+        }
+        for (int i = lowerBoundOf(person, order); i < renewalsListSource.size()
+                && order.compare(renewalsListSource.get(i), person) == 0; i++) {
+            if (renewalsListSource.get(i).equals(person)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first renewal not ordered before {@code person}.
+     */
+    private int lowerBoundOf(Person person, Comparator<Person> order) {
+        int low = 0;
+        int high = renewalsListSource.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(renewalsListSource.get(mid), person) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index after the last renewal not ordered after {@code person},
+     * so that a newly added person goes after existing renewals that tie with it.
+     */
+    private int insertionIndexOf(Person person, Comparator<Person> order) {
+        int low = 0;
+        int high = renewalsListSource.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(renewalsListSource.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean isInOrderAt(int index, Person person, Comparator<Person> order) {
+        boolean isAfterPrevious = index == 0 || order.compare(renewalsListSource.get(index - 1), person) <= 0;
+        boolean isBeforeNext = index == renewalsListSource.size() - 1
+                || order.compare(person, renewalsListSource.get(index + 1)) <= 0;
+        return isAfterPrevious && isBeforeNext;
     }
 
     /**
@@ -207,6 +500,44 @@ public class ModelManager implements Model {
         filteredRenewalsList.setPredicate(predicate);
     }
 
+    /**
+     * Tests persons by looking them up in a set of matches found beforehand, while the filtered list is filtered
+     * with it. Once the matches are forgotten, persons later added to the address book are tested against the
+     * predicate the matches were found with.
+     */
+    private static class KnownMatchesPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> matches;
+
+        KnownMatchesPredicate(Predicate<Person> predicate, Set<Person> matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+        }
+
+        void forgetMatches() {
+            matches = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return (matches != null) ? matches.contains(person) : predicate.test(person);
+        }
+    }
+
+    /**
+     * Returns the number of find and renewals queries answered from the query cache.
+     */
+    public long getQueryCacheHitCount() {
+        return findResultCache.getHitCount() + renewalsResultCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of find and renewals queries that were not answered from the query cache.
+     */
+    public long getQueryCacheMissCount() {
+        return findResultCache.getMissCount() + renewalsResultCache.getMissCount();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
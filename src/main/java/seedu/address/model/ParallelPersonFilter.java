@@ -0,0 +1,142 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Finds the persons in a list that satisfy a predicate, splitting large lists into chunks that are tested
+ * on the threads of a fork/join pool.
+ * The predicate must be safe to test from several threads at once, and the list must not change meanwhile.
+ * A search can be given a condition under which it is cancelled, checked before each chunk is tested,
+ * in which case only some of the matches are returned.
+ */
+public class ParallelPersonFilter {
+
+    /** Smallest number of persons tested as a single chunk, below which splitting costs more than it saves. */
+    static final int MIN_CHUNK_SIZE = 1024;
+
+    /** Number of chunks to aim for on each thread, so that threads finishing early can take over work. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final BooleanSupplier NEVER_CANCELLED = () -> false;
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate}, testing them on the threads of the
+     * common fork/join pool if there are at least {@code parallelThreshold} of them, or on this thread if not.
+     */
+    public static Set<Person> findMatches(List<Person> persons, Predicate<Person> predicate, int parallelThreshold) {
+        return findMatches(persons, predicate, parallelThreshold, NEVER_CANCELLED);
+    }
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate} as
+     * {@link #findMatches(List, Predicate, int)} does, stopping early once {@code isCancelled} is true.
+     * The matches returned by a cancelled search are incomplete and should be discarded.
+     */
+    public static Set<Person> findMatches(List<Person> persons, Predicate<Person> predicate, int parallelThreshold,
+            BooleanSupplier isCancelled) {
+        requireAllNonNull(persons, predicate, isCancelled);
+        if (persons.size() < parallelThreshold) {
+            return findMatchesSequentially(persons, predicate, isCancelled);
+        }
+        return findMatches(persons, predicate, ForkJoinPool.commonPool(), isCancelled);
+    }
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate}, testing them on the threads of
+     * {@code pool}.
+     */
+    public static Set<Person> findMatches(List<Person> persons, Predicate<Person> predicate, ForkJoinPool pool) {
+        return findMatches(persons, predicate, pool, NEVER_CANCELLED);
+    }
+
+    private static Set<Person> findMatches(List<Person> persons, Predicate<Person> predicate, ForkJoinPool pool,
+            BooleanSupplier isCancelled) {
+        requireAllNonNull(persons, predicate, pool, isCancelled);
+        boolean[] isMatch = new boolean[persons.size()];
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, persons.size() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        pool.invoke(new MatchTask(persons, predicate, isCancelled, isMatch, 0, persons.size(), chunkSize));
+
+        Set<Person> matches = PersonSearchIndex.newPersonSet();
+        for (int i = 0; i < isMatch.length; i++) {
+            if (isMatch[i]) {
+                matches.add(persons.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that satisfy {@code predicate}, testing them on this thread.
+     */
+    public static Set<Person> findMatchesSequentially(List<Person> persons, Predicate<Person> predicate) {
+        return findMatchesSequentially(persons, predicate, NEVER_CANCELLED);
+    }
+
+    private static Set<Person> findMatchesSequentially(List<Person> persons, Predicate<Person> predicate,
+            BooleanSupplier isCancelled) {
+        requireAllNonNull(persons, predicate, isCancelled);
+        Set<Person> matches = PersonSearchIndex.newPersonSet();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % MIN_CHUNK_SIZE == 0 && isCancelled.getAsBoolean()) {
+                break;
+            }
+            Person person = persons.get(i);
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Tests the persons in a range of the list, splitting the range in halves until it is no larger than a chunk.
+     * Each task records its results in its own range of a shared array, so no synchronization is needed beyond
+     * the joining of the tasks.
+     */
+    private static class MatchTask extends RecursiveAction {
+        private final List<Person> persons;
+        private final Predicate<Person> predicate;
+        private final BooleanSupplier isCancelled;
+        private final boolean[] isMatch;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        MatchTask(List<Person> persons, Predicate<Person> predicate, BooleanSupplier isCancelled, boolean[] isMatch,
+                int from, int to, int chunkSize) {
+            this.persons = persons;
+            this.predicate = predicate;
+            this.isCancelled = isCancelled;
+            this.isMatch = isMatch;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                if (isCancelled.getAsBoolean()) {
+                    return;
+                }
+                for (int i = from; i < to; i++) {
+                    isMatch[i] = predicate.test(persons.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MatchTask(persons, predicate, isCancelled, isMatch, from, mid, chunkSize),
+                    new MatchTask(persons, predicate, isCancelled, isMatch, mid, to, chunkSize));
+        }
+    }
+}
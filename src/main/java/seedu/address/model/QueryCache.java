@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A bounded cache of the results of queries on the address book, which evicts the least recently used result
+ * once it is full.
+ * A result is only valid for the version of the address book and the date it was found on, so all results are
+ * dropped as soon as a lookup is made at another version or date.
+ * Queries are compared by {@code equals} and {@code hashCode}, and must not change once they are cached.
+ *
+ * @param <K> the type of the queries.
+ * @param <V> the type of the results, which must not be changed once they are cached.
+ */
+public class QueryCache<K, V> {
+
+    private final Map<K, V> results;
+    private long addressBookVersion;
+    private LocalDate date;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty {@code QueryCache} holding up to {@code capacity} results.
+     */
+    public QueryCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive: " + capacity);
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of {@code query} found at {@code addressBookVersion} on {@code date},
+     * or {@code Optional#empty()} if it is not cached.
+     */
+    public Optional<V> get(K query, long addressBookVersion, LocalDate date) {
+        requireAllNonNull(query, date);
+        dropOutdatedResults(addressBookVersion, date);
+        V result = results.get(query);
+        if (result == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(result);
+    }
+
+    /**
+     * Caches {@code result} as the result of {@code query} found at {@code addressBookVersion} on {@code date}.
+     */
+    public void put(K query, long addressBookVersion, LocalDate date, V result) {
+        requireAllNonNull(query, date, result);
+        dropOutdatedResults(addressBookVersion, date);
+        results.put(query, result);
+    }
+
+    private void dropOutdatedResults(long addressBookVersion, LocalDate date) {
+        if (addressBookVersion != this.addressBookVersion || !date.equals(this.date)) {
+            results.clear();
+            this.addressBookVersion = addressBookVersion;
+            this.date = date;
+        }
+    }
+
+    /**
+     * Returns the number of results currently cached.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that were not answered from the cache.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+}
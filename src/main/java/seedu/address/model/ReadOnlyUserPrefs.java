@@ -13,4 +13,19 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the data file should be saved indented for reading, rather than in compact form.
+     */
+    boolean isPrettyPrintDataFile();
+
+    /**
+     * Returns true if the data file should be saved in the compact binary format, rather than as JSON.
+     */
+    boolean isBinaryDataFile();
+
+    /**
+     * Returns the number of persons from which {@code find} tests persons on several threads at once.
+     */
+    int getParallelFindThreshold();
+
 }
@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A sorted index of persons keyed on the epoch day of their policy renewal date.
+ * Allows renewal date window queries to be answered as a range scan instead of a pass over every person,
+ * with the results already in renewal date order.
+ */
+class RenewalDateIndex {
+
+    private final NavigableMap<Long, List<Person>> byRenewalDay = new TreeMap<>();
+
+    /**
+     * Adds {@code person} under its renewal date.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        byRenewalDay.computeIfAbsent(renewalDay(person), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Removes one person equal to {@code person} from under its renewal date.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        long day = renewalDay(person);
+        List<Person> persons = byRenewalDay.get(day);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            byRenewalDay.remove(day);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        byRenewalDay.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose renewal date falls between {@code startDate} and {@code endDate} inclusive,
+     * ordered by renewal date. Persons renewing on the same day are returned in the order they were indexed.
+     */
+    List<Person> getPersonsRenewingBetween(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        List<Person> matches = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return matches;
+        }
+        byRenewalDay.subMap(startDate.toEpochDay(), true, endDate.toEpochDay(), true)
+                .values()
+                .forEach(matches::addAll);
+        return matches;
+    }
+
+    private static long renewalDay(Person person) {
+        return person.getRenewalEpochDay();
+    }
+}
@@ -4,7 +4,9 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RenewalDate;
 
 /**
  * Processes and manages policy renewal data.
@@ -16,20 +18,31 @@ public class RenewalProcessor {
     public static class RenewalEntry {
         private final String client;
         private final String policy;
-        private final LocalDate renewalDate;
+        private final RenewalDate renewalDate;
         private final long daysLeft;
         private final String type;
         private final String contact;
         /**
-         * Constructs a renewal entry from a person.
+         * Constructs a renewal entry from a person, counting the days left from the current date.
+         * Used by tests, as the renewals table counts from the date its renewals list was updated for.
          *
          * @param person the person to create the renewal entry from
          */
         public RenewalEntry(Person person) {
+            this(person, AppClock.today());
+        }
+
+        /**
+         * Constructs a renewal entry from a person.
+         *
+         * @param person the person to create the renewal entry from
+         * @param today the date to count the days left from
+         */
+        public RenewalEntry(Person person, LocalDate today) {
             this.client = person.getName().toString();
             this.policy = person.getPolicy().policyNumber;
-            this.renewalDate = person.getPolicy().renewalDate.value;
-            this.daysLeft = person.getPolicy().getDaysUntilRenewal();
+            this.renewalDate = person.getPolicy().renewalDate;
+            this.daysLeft = person.getPolicy().getDaysUntilRenewal(today);
             this.type = person.getPolicy().getType().toString();
             this.contact = person.getPhone().toString();
         }
@@ -43,7 +56,7 @@ public class RenewalProcessor {
         }
 
         public LocalDate getRenewalDate() {
-            return renewalDate;
+            return renewalDate.getValue();
         }
 
         public long getDaysLeft() {
@@ -60,14 +73,26 @@ public class RenewalProcessor {
     }
 
     /**
-     * Processes the list of persons and returns table data for renewals.
+     * Processes the list of persons and returns table data for renewals, counting the days left from the current date.
+     * Kept for tests; the renewals table passes the date its renewals list was updated for.
      *
      * @param persons List of persons to process
      * @return Table data containing processed renewal entries
      */
     public static RenewalTableData processRenewals(List<Person> persons) {
+        return processRenewals(persons, AppClock.today());
+    }
+
+    /**
+     * Processes the list of persons and returns table data for renewals.
+     *
+     * @param persons List of persons to process
+     * @param today the date to count the days left from
+     * @return Table data containing processed renewal entries
+     */
+    public static RenewalTableData processRenewals(List<Person> persons, LocalDate today) {
         List<RenewalEntry> entries = persons.stream()
-                .map(RenewalEntry::new)
+                .map(person -> new RenewalEntry(person, today))
                 .collect(Collectors.toList());
         return new RenewalTableData(entries);
     }
@@ -13,8 +13,13 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_FIND_THRESHOLD = 50_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean prettyPrintDataFile = false;
+    private boolean binaryDataFile = false;
+    private int parallelFindThreshold = DEFAULT_PARALLEL_FIND_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setPrettyPrintDataFile(newUserPrefs.isPrettyPrintDataFile());
+        setBinaryDataFile(newUserPrefs.isBinaryDataFile());
+        setParallelFindThreshold(newUserPrefs.getParallelFindThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isPrettyPrintDataFile() {
+        return prettyPrintDataFile;
+    }
+
+    public void setPrettyPrintDataFile(boolean prettyPrintDataFile) {
+        this.prettyPrintDataFile = prettyPrintDataFile;
+    }
+
+    public boolean isBinaryDataFile() {
+        return binaryDataFile;
+    }
+
+    public void setBinaryDataFile(boolean binaryDataFile) {
+        this.binaryDataFile = binaryDataFile;
+    }
+
+    public int getParallelFindThreshold() {
+        return parallelFindThreshold;
+    }
+
+    public void setParallelFindThreshold(int parallelFindThreshold) {
+        this.parallelFindThreshold = parallelFindThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +101,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.getFileName().equals(otherUserPrefs.addressBookFilePath.getFileName());
+                && addressBookFilePath.getFileName().equals(otherUserPrefs.addressBookFilePath.getFileName())
+                && prettyPrintDataFile == otherUserPrefs.prettyPrintDataFile
+                && binaryDataFile == otherUserPrefs.binaryDataFile
+                && parallelFindThreshold == otherUserPrefs.parallelFindThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, prettyPrintDataFile, binaryDataFile,
+                parallelFindThreshold);
     }
 
     @Override
@@ -82,6 +118,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath.getFileName());
+        sb.append("\nPretty print data file : " + prettyPrintDataFile);
+        sb.append("\nBinary data file : " + binaryDataFile);
+        sb.append("\nParallel find threshold : " + parallelFindThreshold);
         return sb.toString();
     }
 
@@ -34,7 +34,29 @@ public class Address {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s} in a regex.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is a line terminator, which {@code .} does not match in a regex.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Person's email in the address book.
@@ -48,7 +49,67 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int at = test.indexOf('@');
+        if (at == -1 || !isValidLocalPart(test, at)) {
+            return false;
+        }
+
+        int labelStart = at + 1;
+        int labelEnd = test.indexOf('.', labelStart);
+        while (labelEnd != -1) {
+            if (!isValidDomainLabel(test, labelStart, labelEnd)) {
+                return false;
+            }
+            labelStart = labelEnd + 1;
+            labelEnd = test.indexOf('.', labelStart);
+        }
+        return isValidDomainLabel(test, labelStart, test.length())
+                && hasAdjacentAlphanumerics(test, labelStart, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} up to {@code end} is alphanumeric runs separated by single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        return isSeparatedAlphanumerics(test, 0, end, SPECIAL_CHARACTERS);
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} is alphanumeric runs separated by single hyphens.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end) {
+        return isSeparatedAlphanumerics(test, start, end, "-");
+    }
+
+    /**
+     * Returns true if {@code test} from {@code start} to {@code end} is not empty, starts and ends with
+     * an alphanumeric character, and has no two consecutive characters from {@code separators}.
+     * All other characters must be alphanumeric.
+     */
+    private static boolean isSeparatedAlphanumerics(String test, int start, int end, String separators) {
+        if (start >= end || !isAsciiAlphanumeric(test.charAt(start)) || !isAsciiAlphanumeric(test.charAt(end - 1))) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && (separators.indexOf(c) == -1 || !isAsciiAlphanumeric(test.charAt(i + 1)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if two alphanumeric characters are next to each other in {@code test} from {@code start}
+     * to {@code end}, as the last domain label must be at least two concatenated domain parts.
+     */
+    private static boolean hasAdjacentAlphanumerics(String test, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isAsciiAlphanumeric(test.charAt(i - 1)) && isAsciiAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
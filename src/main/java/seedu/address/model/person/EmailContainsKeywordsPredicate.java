@@ -1,9 +1,9 @@
 package seedu.address.model.person;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,11 +11,18 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements SearchFieldPredicate {
     private final Set<Email> keywords;
+    private final String[] searchTerms;
 
+    /**
+     * Creates a predicate matching any of {@code keywords}, normalizing them for searching once up front.
+     */
     public EmailContainsKeywordsPredicate(Set<Email> keywords) {
         this.keywords = keywords;
+        this.searchTerms = (keywords != null)
+                ? keywords.stream().map(keyword -> StringUtil.toSearchTerm(keyword.value)).toArray(String[]::new)
+                : null;
     }
 
     /**
@@ -29,9 +36,22 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsPartialWordIgnoreCase(person.getEmail().value, keyword.value));
+        return StringUtil.containsAnySearchTerm(person.getSearchKey(SearchField.EMAIL), searchTerms);
+    }
+
+    @Override
+    public SearchField getSearchField() {
+        return SearchField.EMAIL;
+    }
+
+    @Override
+    public List<String> getSearchTerms() {
+        return List.of(searchTerms);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        return index.getTrigramIndex().getCandidatesForAny(SearchField.EMAIL, getSearchTerms());
     }
 
     @Override
@@ -50,6 +70,11 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherEmailContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
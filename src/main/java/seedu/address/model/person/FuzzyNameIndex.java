@@ -0,0 +1,173 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A BK-tree of the distinct words in the names of persons, ordered by their edit distance, to the persons whose
+ * names contain them.
+ * Allows finding the persons with a name word within an edit distance of a search word while comparing it to only
+ * a small part of the words, instead of to the name of every person in the list.
+ *
+ * Each word is a node, and the children of a node are kept by their edit distance to it. As edit distance is a
+ * metric, only the children at a distance within {@code maxDistance} of the search word's distance to a node can
+ * lead to matches.
+ * A word stays in the tree once its last person is removed, as removing a node would mean rebuilding the subtree
+ * below it. Such words simply match no persons; there are far fewer distinct name words than persons.
+ */
+public class FuzzyNameIndex {
+
+    private Node root;
+
+    FuzzyNameIndex() {}
+
+    /**
+     * Creates an index with the same persons as {@code toCopy}.
+     */
+    FuzzyNameIndex(FuzzyNameIndex toCopy) {
+        requireNonNull(toCopy);
+        Set<Person> persons = PersonSearchIndex.newPersonSet();
+        toCopy.forEachNode(node -> persons.addAll(node.persons));
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed persons with a name word within {@code maxDistance} edits of {@code searchWord},
+     * mapped to the smallest edit distance of any of their name words.
+     *
+     * @param searchWord a word normalized by {@link StringUtil#toSearchTerm(String)}
+     */
+    public Map<Person, Integer> find(String searchWord, int maxDistance) {
+        requireNonNull(searchWord);
+        Map<Person, Integer> distancesByPerson = new IdentityHashMap<>();
+        if (root == null) {
+            return distancesByPerson;
+        }
+
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.getEditDistance(searchWord, node.word);
+            if (distance <= maxDistance) {
+                for (Person person : node.persons) {
+                    distancesByPerson.merge(person, distance, Math::min);
+                }
+            }
+            int maxChildDistance = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= maxChildDistance;
+                    childDistance++) {
+                if (node.children[childDistance] != null) {
+                    nodesToVisit.push(node.children[childDistance]);
+                }
+            }
+        }
+        return distancesByPerson;
+    }
+
+    /**
+     * Adds {@code person} under each word of their name.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().getSearchWords()) {
+            getOrAddNode(word).persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, the same instance that was added, from each word of their name.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String word : person.getName().getSearchWords()) {
+            Node node = getNode(word);
+            if (node != null) {
+                node.persons.remove(person);
+            }
+        }
+    }
+
+    private Node getOrAddNode(String word) {
+        if (root == null) {
+            root = new Node(word);
+            return root;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                child = new Node(word);
+                node.setChild(distance, child);
+                return child;
+            }
+            node = child;
+        }
+    }
+
+    private Node getNode(String word) {
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.getChild(distance);
+        }
+        return null;
+    }
+
+    private void forEachNode(Consumer<Node> action) {
+        if (root == null) {
+            return;
+        }
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            action.accept(node);
+            for (Node child : node.children) {
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * A word in the tree, with the persons whose names contain it and its children by their distance to it.
+     */
+    private static class Node {
+        private final String word;
+        private final Set<Person> persons = PersonSearchIndex.newPersonSet();
+        private Node[] children = new Node[0];
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return (distance < children.length) ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on persons whose matches can be narrowed down through a {@link PersonSearchIndex},
+ * so that only the candidate persons it returns need to be tested.
+ * Such predicates must be safe to test from several threads at once, so that the candidates can be tested in
+ * parallel.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that may satisfy this predicate, including every person that does,
+     * or {@code Optional#empty()} if the indexes cannot narrow them down.
+     */
+    Optional<Set<Person>> getCandidates(PersonSearchIndex index);
+}
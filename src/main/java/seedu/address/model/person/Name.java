@@ -2,6 +2,12 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -20,6 +26,10 @@ public class Name {
 
     public final String fullName;
 
+    // Computed on first use; threads racing to compute them compute the same values.
+    private volatile List<String> searchWords;
+    private volatile List<String> phoneticKeys;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -35,9 +45,49 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Returns the words of this name as search keys, in the order they appear.
+     *
+     * @see StringUtil#toSearchKey(String)
+     */
+    public List<String> getSearchWords() {
+        List<String> words = searchWords;
+        if (words == null) {
+            words = List.of(StringUtil.toSearchKey(fullName).split(" +"));
+            searchWords = words;
+        }
+        return words;
+    }
+
+    /**
+     * Returns the distinct phonetic keys of the words of this name, skipping words without letters.
+     *
+     * @see StringUtil#getPhoneticKey(String)
+     */
+    public List<String> getPhoneticKeys() {
+        List<String> keys = phoneticKeys;
+        if (keys == null) {
+            keys = getSearchWords().stream()
+                    .map(StringUtil::getPhoneticKey)
+                    .filter(key -> !key.isEmpty())
+                    .distinct()
+                    .collect(Collectors.toUnmodifiableList());
+            phoneticKeys = keys;
+        }
+        return keys;
+    }
 
     @Override
     public String toString() {
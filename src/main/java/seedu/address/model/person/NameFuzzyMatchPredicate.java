@@ -0,0 +1,127 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a few typing mistakes of any word of the keywords
+ * given, ignoring case.
+ * Each word may be off by up to {@link #getMaxEditDistance(String)} insertions, deletions or substitutions
+ * of single characters, so that {@code jonh} matches {@code John}.
+ */
+public class NameFuzzyMatchPredicate implements IndexedPersonPredicate {
+
+    /** Edit distance of a person not matched by any word, which ranks them after every matched person. */
+    public static final int NO_MATCH_DISTANCE = Integer.MAX_VALUE;
+
+    /** Shortest search words that may be off by two edits and by one edit. Shorter words must match exactly. */
+    static final int MIN_LENGTH_FOR_TWO_EDITS = 4;
+    static final int MIN_LENGTH_FOR_ONE_EDIT = 3;
+
+    private final Set<Name> keywords;
+    private final String[] searchWords;
+
+    /**
+     * Creates a predicate matching any word of {@code keywords}, splitting them into words once up front.
+     */
+    public NameFuzzyMatchPredicate(Set<Name> keywords) {
+        this.keywords = keywords;
+        this.searchWords = (keywords != null)
+                ? keywords.stream().flatMap(keyword -> keyword.getSearchWords().stream()).distinct()
+                        .toArray(String[]::new)
+                : null;
+    }
+
+    /**
+     * Returns the number of edits by which a name word may differ from {@code searchWord} and still match it.
+     */
+    public static int getMaxEditDistance(String searchWord) {
+        if (searchWord.length() >= MIN_LENGTH_FOR_TWO_EDITS) {
+            return 2;
+        }
+        return (searchWord.length() >= MIN_LENGTH_FOR_ONE_EDIT) ? 1 : 0;
+    }
+
+    /**
+     * Returns an unmodifiable name set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     * Returns {@code Optional#empty()} if {@code keywords} is null.
+     */
+    public Optional<Set<Name>> getNames() {
+        return (keywords != null) ? Optional.of(Collections.unmodifiableSet(keywords)) : Optional.empty();
+    }
+
+    /**
+     * Returns the search words, normalized by {@link StringUtil#toSearchKey(String)}.
+     */
+    public List<String> getSearchWords() {
+        return List.of(searchWords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getEditDistance(person) != NO_MATCH_DISTANCE;
+    }
+
+    /**
+     * Returns the smallest edit distance between a word of {@code person}'s name and a search word it matches,
+     * or {@link #NO_MATCH_DISTANCE} if it matches none, so that closer matches can be ranked first.
+     */
+    public int getEditDistance(Person person) {
+        int bestDistance = NO_MATCH_DISTANCE;
+        for (String nameWord : person.getName().getSearchWords()) {
+            for (String searchWord : searchWords) {
+                int maxDistance = getMaxEditDistance(searchWord);
+                if (Math.abs(nameWord.length() - searchWord.length()) > maxDistance) {
+                    continue;
+                }
+                int distance = StringUtil.getEditDistance(nameWord, searchWord);
+                if (distance <= maxDistance) {
+                    bestDistance = Math.min(bestDistance, distance);
+                }
+            }
+        }
+        return bestDistance;
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        Set<Person> candidates = PersonSearchIndex.newPersonSet();
+        for (String searchWord : searchWords) {
+            Map<Person, Integer> matches = index.getFuzzyNameIndex().find(searchWord, getMaxEditDistance(searchWord));
+            candidates.addAll(matches.keySet());
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameFuzzyMatchPredicate)) {
+            return false;
+        }
+
+        NameFuzzyMatchPredicate otherNameFuzzyMatchPredicate = (NameFuzzyMatchPredicate) other;
+        return keywords.equals(otherNameFuzzyMatchPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds like any word of the keywords given,
+ * that is has the same phonetic key, so that {@code Kathryn} matches {@code Catherine}.
+ *
+ * @see StringUtil#getPhoneticKey(String)
+ */
+public class NamePhoneticMatchPredicate implements IndexedPersonPredicate {
+
+    private final Set<Name> keywords;
+    private final Set<String> phoneticKeys;
+
+    /**
+     * Creates a predicate matching any word of {@code keywords}, computing their phonetic keys once up front.
+     */
+    public NamePhoneticMatchPredicate(Set<Name> keywords) {
+        this.keywords = keywords;
+        this.phoneticKeys = new HashSet<>();
+        if (keywords != null) {
+            keywords.forEach(keyword -> phoneticKeys.addAll(keyword.getPhoneticKeys()));
+        }
+    }
+
+    /**
+     * Returns an unmodifiable name set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     * Returns {@code Optional#empty()} if {@code keywords} is null.
+     */
+    public Optional<Set<Name>> getNames() {
+        return (keywords != null) ? Optional.of(Collections.unmodifiableSet(keywords)) : Optional.empty();
+    }
+
+    /**
+     * Returns an unmodifiable set of the phonetic keys of the keywords.
+     */
+    public Set<String> getPhoneticKeys() {
+        return Collections.unmodifiableSet(phoneticKeys);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> personKeys = person.getName().getPhoneticKeys();
+        for (int i = 0; i < personKeys.size(); i++) {
+            if (phoneticKeys.contains(personKeys.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        Set<Person> candidates = PersonSearchIndex.newPersonSet();
+        for (String phoneticKey : phoneticKeys) {
+            candidates.addAll(index.getPhoneticNameIndex().find(phoneticKey));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NamePhoneticMatchPredicate)) {
+            return false;
+        }
+
+        NamePhoneticMatchPredicate otherNamePhoneticMatchPredicate = (NamePhoneticMatchPredicate) other;
+        return keywords.equals(otherNamePhoneticMatchPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
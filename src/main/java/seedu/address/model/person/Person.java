@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
@@ -8,6 +9,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
@@ -17,6 +19,8 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    private static final int SEARCH_FIELD_COUNT = SearchField.values().length;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,6 +32,11 @@ public class Person {
     private final Note note;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Search keys of the searchable fields, computed when first asked for
+    private final String[] searchKeys = new String[SEARCH_FIELD_COUNT];
+    // volatile so that threads testing persons in parallel see the whole array once it is set
+    private volatile String[] tagSearchKeys;
+
     /**
      * Every field must be present and not null.
      */
@@ -67,7 +76,52 @@ public class Person {
     }
 
     public LocalDate getRenewalDateValue() {
-        return policy.renewalDate.value;
+        return policy.renewalDate.getValue();
+    }
+
+    /**
+     * Returns the renewal date of the person's policy as the number of days after 1 January 1970.
+     */
+    public int getRenewalEpochDay() {
+        return policy.renewalDate.getEpochDay();
+    }
+
+    /**
+     * Returns the value of {@code field} normalized for searching, as by {@link StringUtil#toSearchKey(String)}.
+     * The search key is computed the first time it is asked for, then kept, as persons are immutable.
+     */
+    public String getSearchKey(SearchField field) {
+        requireNonNull(field);
+        String searchKey = searchKeys[field.ordinal()];
+        if (searchKey == null) {
+            // racing threads compute the same key, so whichever is kept does not matter
+            searchKey = StringUtil.toSearchKey(field.getValue(this));
+            searchKeys[field.ordinal()] = searchKey;
+        }
+        return searchKey;
+    }
+
+    /**
+     * Returns true if the person has a tag whose name, normalized for searching, is any of {@code tagSearchTerms}.
+     * Tag names are alphanumeric, so this compares them ignoring case.
+     *
+     * @param tagSearchTerms tag names normalized by {@link StringUtil#toSearchTerm(String)}
+     */
+    public boolean hasAnyTag(String[] tagSearchTerms) {
+        requireNonNull(tagSearchTerms);
+        String[] keys = tagSearchKeys;
+        if (keys == null) {
+            keys = tags.stream().map(tag -> StringUtil.toSearchKey(tag.tagName)).toArray(String[]::new);
+            tagSearchKeys = keys;
+        }
+        for (String tagSearchTerm : tagSearchTerms) {
+            for (String key : keys) {
+                if (key.equals(tagSearchTerm)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     public Note getNote() {
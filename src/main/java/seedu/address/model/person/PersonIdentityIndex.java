@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hash indexes over the identity keys used by {@link Person#isSamePerson(Person)}:
+ * the policy number, the name and email pair, and the name and phone pair.
+ * Allows {@link UniquePersonList} to answer identity queries without scanning every person.
+ *
+ * Each key maps to every indexed person holding it, so that the index stays exact even if the
+ * list ends up holding more than one person with the same key.
+ */
+class PersonIdentityIndex {
+
+    private final Map<String, List<Person>> byPolicyNumber = new HashMap<>();
+    private final Map<IdentityKey, List<Person>> byNameAndEmail = new HashMap<>();
+    private final Map<IdentityKey, List<Person>> byNameAndPhone = new HashMap<>();
+
+    PersonIdentityIndex() {}
+
+    /**
+     * Creates an index with the same entries as {@code toCopy}.
+     */
+    PersonIdentityIndex(PersonIdentityIndex toCopy) {
+        requireNonNull(toCopy);
+        copyInto(toCopy.byPolicyNumber, byPolicyNumber);
+        copyInto(toCopy.byNameAndEmail, byNameAndEmail);
+        copyInto(toCopy.byNameAndPhone, byNameAndPhone);
+    }
+
+    /**
+     * Returns true if an indexed person has the same identity as {@code person}.
+     */
+    boolean containsSamePerson(Person person) {
+        requireNonNull(person);
+        return byPolicyNumber.containsKey(policyKey(person))
+                || byNameAndEmail.containsKey(nameAndEmailKey(person))
+                || byNameAndPhone.containsKey(nameAndPhoneKey(person));
+    }
+
+    /**
+     * Returns the indexed persons holding {@code policyNumber}, in insertion order.
+     */
+    List<Person> getByPolicyNumber(String policyNumber) {
+        requireNonNull(policyNumber);
+        List<Person> matches = byPolicyNumber.get(policyNumber);
+        return (matches != null) ? List.copyOf(matches) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the indexed persons with the same identity as {@code person}.
+     * Persons sharing the policy number come first, followed by those sharing the name and email,
+     * then those sharing the name and phone.
+     */
+    List<Person> getSamePersons(Person person) {
+        requireNonNull(person);
+        List<Person> matches = new ArrayList<>();
+        addAllAbsent(matches, byPolicyNumber.get(policyKey(person)));
+        addAllAbsent(matches, byNameAndEmail.get(nameAndEmailKey(person)));
+        addAllAbsent(matches, byNameAndPhone.get(nameAndPhoneKey(person)));
+        return matches;
+    }
+
+    /**
+     * Adds {@code person} under each of its identity keys.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        byPolicyNumber.computeIfAbsent(policyKey(person), unused -> new ArrayList<>(1)).add(person);
+        byNameAndEmail.computeIfAbsent(nameAndEmailKey(person), unused -> new ArrayList<>(1)).add(person);
+        byNameAndPhone.computeIfAbsent(nameAndPhoneKey(person), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Removes one person equal to {@code person} from each of its identity keys.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        removeFrom(byPolicyNumber, policyKey(person), person);
+        removeFrom(byNameAndEmail, nameAndEmailKey(person), person);
+        removeFrom(byNameAndPhone, nameAndPhoneKey(person), person);
+    }
+
+    private static String policyKey(Person person) {
+        return person.getPolicy().getPolicyNumber();
+    }
+
+    private static IdentityKey nameAndEmailKey(Person person) {
+        return new IdentityKey(person.getName(), person.getEmail());
+    }
+
+    private static IdentityKey nameAndPhoneKey(Person person) {
+        return new IdentityKey(person.getName(), person.getPhone());
+    }
+
+    private static void addAllAbsent(List<Person> matches, List<Person> toAdd) {
+        if (toAdd == null) {
+            return;
+        }
+        for (Person person : toAdd) {
+            if (matches.stream().noneMatch(match -> match == person)) {
+                matches.add(person);
+            }
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, List<Person>> index, K key, Person person) {
+        List<Person> persons = index.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static <K> void copyInto(Map<K, List<Person>> source, Map<K, List<Person>> target) {
+        source.forEach((key, persons) -> target.put(key, new ArrayList<>(persons)));
+    }
+
+    /**
+     * A composite key of a person's name and one other identity field.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object other;
+
+        IdentityKey(Name name, Object other) {
+            this.name = name;
+            this.other = other;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(obj instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) obj;
+            return name.equals(otherKey.name) && other.equals(otherKey.other);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, other);
+        }
+    }
+}
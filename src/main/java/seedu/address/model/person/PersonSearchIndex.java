@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The indexes through which the persons that may satisfy an {@link IndexedPersonPredicate} are found,
+ * kept in sync with each other as persons are added and removed.
+ */
+public class PersonSearchIndex {
+
+    private final PersonTrigramIndex trigramIndex;
+    private final FuzzyNameIndex fuzzyNameIndex;
+    private final PhoneticNameIndex phoneticNameIndex;
+
+    PersonSearchIndex() {
+        trigramIndex = new PersonTrigramIndex();
+        fuzzyNameIndex = new FuzzyNameIndex();
+        phoneticNameIndex = new PhoneticNameIndex();
+    }
+
+    /**
+     * Creates indexes with the same persons as {@code toCopy}.
+     */
+    PersonSearchIndex(PersonSearchIndex toCopy) {
+        requireNonNull(toCopy);
+        trigramIndex = new PersonTrigramIndex(toCopy.trigramIndex);
+        fuzzyNameIndex = new FuzzyNameIndex(toCopy.fuzzyNameIndex);
+        phoneticNameIndex = new PhoneticNameIndex(toCopy.phoneticNameIndex);
+    }
+
+    /**
+     * Returns a new empty set for persons, which tells persons apart by reference rather than by equality,
+     * as the candidates returned by the indexes are the indexed instances themselves.
+     */
+    public static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the index of the substrings of the searchable fields of persons.
+     */
+    public PersonTrigramIndex getTrigramIndex() {
+        return trigramIndex;
+    }
+
+    /**
+     * Returns the index of the words in the names of persons by their edit distance.
+     */
+    public FuzzyNameIndex getFuzzyNameIndex() {
+        return fuzzyNameIndex;
+    }
+
+    /**
+     * Returns the index of the words in the names of persons by how they sound.
+     */
+    public PhoneticNameIndex getPhoneticNameIndex() {
+        return phoneticNameIndex;
+    }
+
+    /**
+     * Adds {@code person} to every index.
+     */
+    void add(Person person) {
+        trigramIndex.add(person);
+        fuzzyNameIndex.add(person);
+        phoneticNameIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person}, the same instance that was added, from every index.
+     */
+    void remove(Person person) {
+        trigramIndex.remove(person);
+        fuzzyNameIndex.remove(person);
+        phoneticNameIndex.remove(person);
+    }
+}
@@ -0,0 +1,272 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the trigrams (substrings of three characters) of the search keys of persons
+ * to the persons containing them.
+ * Allows substring searches such as {@code find} to check only the persons containing every trigram of the
+ * search term, instead of every person in the list.
+ *
+ * Each indexed person is given an increasing id, so that the ids in each posting list stay sorted.
+ * Removed persons leave their ids behind in the posting lists until enough of them have built up,
+ * when the index is rebuilt from the remaining persons.
+ */
+public class PersonTrigramIndex {
+
+    /** Length of the substrings indexed. Search terms shorter than this cannot be looked up. */
+    public static final int GRAM_LENGTH = 3;
+
+    /** Number of removed persons above which the index may be rebuilt. */
+    static final int MIN_REMOVED_BEFORE_REBUILD = 1024;
+
+    private final List<Person> personsById = new ArrayList<>();
+    private final Map<Person, Integer> idsByPerson = new IdentityHashMap<>();
+    private final PostingsTable postingsByKey = new PostingsTable();
+    private int removedCount;
+
+    PersonTrigramIndex() {}
+
+    /**
+     * Creates an index with the same persons as {@code toCopy}.
+     */
+    PersonTrigramIndex(PersonTrigramIndex toCopy) {
+        requireNonNull(toCopy);
+        toCopy.personsById.stream().filter(person -> person != null).forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed persons whose {@code field} may contain {@code searchTerm}, ignoring case and
+     * leading and trailing whitespace in the search term. Every person whose field does contain it is returned,
+     * but the caller still has to check each of them.
+     * Returns {@code Optional#empty()} if the search term is too short to be looked up.
+     */
+    public Optional<Set<Person>> getCandidates(SearchField field, String searchTerm) {
+        requireNonNull(field);
+        requireNonNull(searchTerm);
+
+        String preppedSearchTerm = StringUtil.toSearchKey(searchTerm.trim());
+        if (preppedSearchTerm.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<Postings> termPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= preppedSearchTerm.length(); i++) {
+            Postings postings = postingsByKey.get(toKey(field, preppedSearchTerm, i));
+            if (postings == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            termPostings.add(postings);
+        }
+        termPostings.sort(Comparator.comparingInt(postings -> postings.size));
+
+        Set<Person> candidates = PersonSearchIndex.newPersonSet();
+        Postings rarest = termPostings.get(0);
+        for (int i = 0; i < rarest.size; i++) {
+            int id = rarest.ids[i];
+            if (personsById.get(id) != null && isInAll(termPostings, id)) {
+                candidates.add(personsById.get(id));
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the indexed persons whose {@code field} may contain any of {@code searchTerms}.
+     * Returns {@code Optional#empty()} if any of the search terms is too short to be looked up.
+     *
+     * @see #getCandidates(SearchField, String)
+     */
+    public Optional<Set<Person>> getCandidatesForAny(SearchField field, Collection<String> searchTerms) {
+        requireNonNull(searchTerms);
+        Set<Person> candidates = PersonSearchIndex.newPersonSet();
+        for (String searchTerm : searchTerms) {
+            Optional<Set<Person>> termCandidates = getCandidates(field, searchTerm);
+            if (termCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(termCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Adds {@code person} under each trigram of each of its fields.
+     * The person must not already be indexed.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        assert !idsByPerson.containsKey(person);
+
+        int id = personsById.size();
+        personsById.add(person);
+        idsByPerson.put(person, id);
+        for (SearchField field : SearchField.values()) {
+            String value = person.getSearchKey(field);
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                postingsByKey.getOrCreate(toKey(field, value, i)).add(id);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the indexed instance rather than an equal one.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer id = idsByPerson.remove(person);
+        if (id == null) {
+            return;
+        }
+        personsById.set(id, null);
+        removedCount++;
+        if (removedCount >= MIN_REMOVED_BEFORE_REBUILD && removedCount > idsByPerson.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the number of persons indexed.
+     */
+    int size() {
+        return idsByPerson.size();
+    }
+
+    private void rebuild() {
+        List<Person> remainingPersons = new ArrayList<>(idsByPerson.size());
+        personsById.stream().filter(person -> person != null).forEach(remainingPersons::add);
+        personsById.clear();
+        idsByPerson.clear();
+        postingsByKey.clear();
+        removedCount = 0;
+        remainingPersons.forEach(this::add);
+    }
+
+    private static boolean isInAll(List<Postings> termPostings, int id) {
+        for (int i = 1; i < termPostings.size(); i++) {
+            if (!termPostings.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the key of the trigram of {@code field} starting at {@code start} in {@code value},
+     * packing the field and the three characters into a single number.
+     */
+    private static long toKey(SearchField field, String value, int start) {
+        return ((long) field.ordinal() << 48)
+                | ((long) value.charAt(start) << 32)
+                | ((long) value.charAt(start + 1) << 16)
+                | value.charAt(start + 2);
+    }
+
+    /**
+     * A hash table from trigram keys to their posting lists, using open addressing over primitive keys
+     * so that indexing a person does not box a key for each of its trigrams.
+     */
+    private static class PostingsTable {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private Postings[] values = new Postings[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Returns the posting list of {@code key}, or null if it has none.
+         */
+        Postings get(long key) {
+            return values[slotOf(key, keys, values)];
+        }
+
+        /**
+         * Returns the posting list of {@code key}, creating an empty one if it has none.
+         */
+        Postings getOrCreate(long key) {
+            int slot = slotOf(key, keys, values);
+            if (values[slot] != null) {
+                return values[slot];
+            }
+            if ((size + 1) * 4 > values.length * 3) {
+                resize();
+                slot = slotOf(key, keys, values);
+            }
+            keys[slot] = key;
+            values[slot] = new Postings();
+            size++;
+            return values[slot];
+        }
+
+        void clear() {
+            keys = new long[INITIAL_CAPACITY];
+            values = new Postings[INITIAL_CAPACITY];
+            size = 0;
+        }
+
+        private void resize() {
+            long[] newKeys = new long[keys.length * 2];
+            Postings[] newValues = new Postings[values.length * 2];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    int slot = slotOf(keys[i], newKeys, newValues);
+                    newKeys[slot] = keys[i];
+                    newValues[slot] = values[i];
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+
+        /**
+         * Returns the slot holding {@code key}, or the empty slot it would be put in.
+         */
+        private static int slotOf(long key, long[] keys, Postings[] values) {
+            int mask = values.length - 1;
+            int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+            while (values[slot] != null && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * A growable, sorted list of the ids of the persons containing a trigram.
+     */
+    private static class Postings {
+        private int[] ids = new int[2];
+        private int size;
+
+        /**
+         * Appends {@code id}, which must not be smaller than any id already in the list.
+         * Does nothing if the list already ends with it, as when a trigram occurs more than once in a field.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -13,6 +14,9 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should follow the E.164 Phone Number Standard";
     public static final String VALIDATION_REGEX = "^\\+?[1-9]\\d{2,14}$";
+    private static final int MIN_DIGITS = 3;
+    private static final int MAX_DIGITS = 15;
+
     public final String value;
 
     /**
@@ -30,7 +34,17 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int start = test.startsWith("+") ? 1 : 0;
+        int digitCount = test.length() - start;
+        if (digitCount < MIN_DIGITS || digitCount > MAX_DIGITS || test.charAt(start) == '0') {
+            return false;
+        }
+        for (int i = start; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
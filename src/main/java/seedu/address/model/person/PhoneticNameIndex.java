@@ -0,0 +1,68 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A hash index from the phonetic keys of the words in the names of persons to the persons whose names contain them.
+ * Allows finding the persons with a name word that sounds like a search word through a single lookup, as the key of
+ * each name is computed once by {@link Name#getPhoneticKeys()}, instead of encoding the name of every person.
+ */
+public class PhoneticNameIndex {
+
+    private final Map<String, Set<Person>> personsByKey = new HashMap<>();
+
+    PhoneticNameIndex() {}
+
+    /**
+     * Creates an index with the same persons as {@code toCopy}.
+     */
+    PhoneticNameIndex(PhoneticNameIndex toCopy) {
+        requireNonNull(toCopy);
+        Set<Person> persons = PersonSearchIndex.newPersonSet();
+        toCopy.personsByKey.values().forEach(persons::addAll);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the indexed persons with a name word of {@code phoneticKey}.
+     *
+     * @param phoneticKey a key as returned by {@link StringUtil#getPhoneticKey(String)}
+     */
+    public Set<Person> find(String phoneticKey) {
+        requireNonNull(phoneticKey);
+        return Collections.unmodifiableSet(personsByKey.getOrDefault(phoneticKey, Collections.emptySet()));
+    }
+
+    /**
+     * Adds {@code person} under the phonetic key of each word of their name.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String key : person.getName().getPhoneticKeys()) {
+            personsByKey.computeIfAbsent(key, unused -> PersonSearchIndex.newPersonSet()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, the same instance that was added, from the phonetic key of each word of their name.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String key : person.getName().getPhoneticKeys()) {
+            Set<Person> persons = personsByKey.get(key);
+            if (persons != null) {
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    personsByKey.remove(key);
+                }
+            }
+        }
+    }
+}
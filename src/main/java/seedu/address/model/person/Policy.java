@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigits;
 
 import java.time.LocalDate;
 
@@ -67,7 +68,7 @@ public class Policy {
      * Returns true if a given string is a valid policy.
      */
     public static boolean isValidPolicy(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAsciiDigits(test);
     }
 
     public String getPolicyNumber() {
@@ -89,25 +90,40 @@ public class Policy {
     }
 
     /**
-     * Returns the number of days until renewal.
+     * Returns the number of days until renewal, counting from the current date. For tests only.
      */
     public long getDaysUntilRenewal() {
         return renewalDate.getDaysUntilRenewal();
     }
 
     /**
-     * Returns true if the policy is due for renewal within the specified number of days.
+     * Returns the number of days from {@code today} until renewal.
+     */
+    public long getDaysUntilRenewal(LocalDate today) {
+        return renewalDate.getDaysUntilRenewal(today);
+    }
+
+    /**
+     * Returns true if the policy is due for renewal within the specified number of days from the current date.
+     * For tests only.
      */
     public boolean isRenewalDueWithin(int days) {
         return renewalDate.isRenewalDueWithin(days);
     }
 
+    /**
+     * Returns true if the policy is due for renewal within the specified number of days from {@code today}.
+     */
+    public boolean isRenewalDueWithin(int days, LocalDate today) {
+        return renewalDate.isRenewalDueWithin(days, today);
+    }
+
     /**
      * Returns true if the policy is due for renewal within the specified date range.
      */
     public boolean isRenewalDueWithinDateRange(LocalDate startDate, LocalDate endDate) {
-        return (renewalDate.value.isEqual(startDate) || renewalDate.value.isAfter(startDate))
-                && (renewalDate.value.isEqual(endDate) || renewalDate.value.isBefore(endDate));
+        int renewalDay = renewalDate.getEpochDay();
+        return renewalDay >= startDate.toEpochDay() && renewalDay <= endDate.toEpochDay();
     }
 
     @Override
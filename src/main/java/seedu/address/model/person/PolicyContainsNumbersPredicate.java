@@ -1,9 +1,9 @@
 package seedu.address.model.person;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,11 +11,18 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Policy} matches any of the numbers given.
  */
-public class PolicyContainsNumbersPredicate implements Predicate<Person> {
+public class PolicyContainsNumbersPredicate implements SearchFieldPredicate {
     private final Set<Policy> numbers;
+    private final String[] searchTerms;
 
+    /**
+     * Creates a predicate matching any of {@code numbers}, normalizing them for searching once up front.
+     */
     public PolicyContainsNumbersPredicate(Set<Policy> numbers) {
         this.numbers = numbers;
+        this.searchTerms = (numbers != null)
+                ? numbers.stream().map(number -> StringUtil.toSearchTerm(number.policyNumber)).toArray(String[]::new)
+                : null;
     }
 
     /**
@@ -29,9 +36,22 @@ public class PolicyContainsNumbersPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return numbers.stream()
-                .anyMatch(number -> StringUtil.containsPartialWordIgnoreCase(person.getPolicy().policyNumber,
-                        number.policyNumber));
+        return StringUtil.containsAnySearchTerm(person.getSearchKey(SearchField.POLICY_NUMBER), searchTerms);
+    }
+
+    @Override
+    public SearchField getSearchField() {
+        return SearchField.POLICY_NUMBER;
+    }
+
+    @Override
+    public List<String> getSearchTerms() {
+        return List.of(searchTerms);
+    }
+
+    @Override
+    public Optional<Set<Person>> getCandidates(PersonSearchIndex index) {
+        return index.getTrigramIndex().getCandidatesForAny(SearchField.POLICY_NUMBER, getSearchTerms());
     }
 
     @Override
@@ -49,6 +69,11 @@ public class PolicyContainsNumbersPredicate implements Predicate<Person> {
         return numbers.equals(otherPolicyContainsNumbersPredicate.numbers);
     }
 
+    @Override
+    public int hashCode() {
+        return numbers.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("numbers", numbers).toString();
@@ -52,6 +52,11 @@ public class PolicyTypeContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherPolicyTypeContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
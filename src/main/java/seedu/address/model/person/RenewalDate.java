@@ -2,26 +2,34 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiDigit;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
+import seedu.address.commons.core.AppClock;
+
 /**
  * Represents a renewal date in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRenewalDate(String)}
+ *
+ * The date is kept as its epoch day, so that comparing and counting days between renewal dates is integer
+ * arithmetic. The {@code LocalDate} is only created when it is needed, such as for display.
  */
 public class RenewalDate {
     public static final String DATE_CONSTRAINTS =
             "Renewal date should be a valid date in DD-MM-YYYY format and must be a future date";
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
-    public final LocalDate value;
+    private final int epochDay;
+    private LocalDate value; // created on first use, racing threads create equal dates
 
     /**
      * Constructs a {@code RenewalDate} with renewal date set to 1 year from now.
      */
     public RenewalDate() {
-        this.value = LocalDate.now().plusYears(1);
+        this(AppClock.today().plusYears(1));
     }
 
     /**
@@ -31,8 +39,48 @@ public class RenewalDate {
      */
     public RenewalDate(String renewalDate) {
         requireNonNull(renewalDate);
-        checkArgument(isValidRenewalDate(renewalDate), DATE_CONSTRAINTS);
-        this.value = LocalDate.parse(renewalDate, DATE_FORMATTER);
+        LocalDate date = parseDate(renewalDate);
+        checkArgument(date != null && isFutureDate(date), DATE_CONSTRAINTS);
+        this.epochDay = Math.toIntExact(date.toEpochDay());
+        this.value = date;
+    }
+
+    private RenewalDate(LocalDate renewalDate) {
+        this.epochDay = Math.toIntExact(renewalDate.toEpochDay());
+        this.value = renewalDate;
+    }
+
+    private RenewalDate(int epochDay) {
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Returns a {@code RenewalDate} with a specific renewal date, without formatting and parsing it.
+     *
+     * @param renewalDate A valid renewal date, as declared in {@link #isFutureDate(LocalDate)}.
+     */
+    public static RenewalDate of(LocalDate renewalDate) {
+        requireNonNull(renewalDate);
+        checkArgument(isFutureDate(renewalDate), DATE_CONSTRAINTS);
+        return new RenewalDate(renewalDate);
+    }
+
+    /**
+     * Returns a {@code RenewalDate} on the day {@code epochDay} days after 1 January 1970.
+     *
+     * @param epochDay A valid renewal date, as declared in {@link #isFutureDate(LocalDate)}.
+     */
+    public static RenewalDate ofEpochDay(int epochDay) {
+        checkArgument(epochDay > AppClock.today().toEpochDay(), DATE_CONSTRAINTS);
+        return new RenewalDate(epochDay);
+    }
+
+    /**
+     * Returns true if a given date is after today, as every valid renewal date must be.
+     */
+    public static boolean isFutureDate(LocalDate test) {
+        requireNonNull(test);
+        return test.isAfter(AppClock.today());
     }
 
     /**
@@ -42,62 +90,98 @@ public class RenewalDate {
         if (test == null) {
             return false;
         }
-        // First check regex
-        if (!test.matches("\\d{2}-\\d{2}-\\d{4}")) {
-            return false;
+        LocalDate date = parseDate(test);
+        return date != null && isFutureDate(date);
+    }
+
+    /**
+     * Returns the date {@code test} represents in DD-MM-YYYY format, or null if it is not a valid date.
+     * Scans the characters directly, as a regex match followed by {@link #DATE_FORMATTER} is much slower
+     * when loading many persons.
+     */
+    private static LocalDate parseDate(String test) {
+        if (test.length() != 10 || test.charAt(2) != '-' || test.charAt(5) != '-') {
+            return null;
         }
-        try {
-            // Split into components
-            String[] parts = test.split("-");
-            int day = Integer.parseInt(parts[0]);
-            int month = Integer.parseInt(parts[1]);
-            int year = Integer.parseInt(parts[2]);
-            // validate month
-            if (month < 1 || month > 12) {
-                return false;
-            }
-            // validate days(for leap years too)
-            int maxDays;
-            switch (month) {
-            case 4: case 6: case 9: case 11:
-                maxDays = 30;
-                break;
-            case 2:
-                boolean isLeapYear = (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
-                maxDays = isLeapYear ? 29 : 28;
-                break;
-            default:
-                maxDays = 31;
-            }
-            if (day < 1 || day > maxDays) {
-                return false;
+        int day = parseDigits(test, 0, 2);
+        int month = parseDigits(test, 3, 5);
+        int year = parseDigits(test, 6, 10);
+        if (day < 1 || month < 1 || month > 12 || year < 0 || day > YearMonth.of(year, month).lengthOfMonth()) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the number the ASCII digits of {@code test} from {@code start} to {@code end} represent,
+     * or -1 if any of them is not an ASCII digit.
+     */
+    private static int parseDigits(String test, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiDigit(c)) {
+                return -1;
             }
-            LocalDate inputDate = LocalDate.parse(test, DATE_FORMATTER);
-            LocalDate now = LocalDate.now();
-            return inputDate.isAfter(now);
-        } catch (Exception e) {
-            return false;
+            number = number * 10 + (c - '0');
         }
+        return number;
     }
 
     /**
-     * Returns the number of days until renewal.
+     * Returns the number of days until renewal, counting from the current date.
+     * Meant for tests; the application passes the date it captured to {@link #getDaysUntilRenewal(LocalDate)}.
      */
     public long getDaysUntilRenewal() {
-        return java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), value);
+        return getDaysUntilRenewal(AppClock.today());
+    }
+
+    /**
+     * Returns the number of days from {@code today} until renewal.
+     */
+    public long getDaysUntilRenewal(LocalDate today) {
+        requireNonNull(today);
+        return epochDay - today.toEpochDay();
     }
 
     /**
-     * Returns true if the renewal is due within the specified number of days.
+     * Returns the renewal date as the number of days after 1 January 1970.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the renewal date.
+     */
+    public LocalDate getValue() {
+        LocalDate date = value;
+        if (date == null) {
+            date = LocalDate.ofEpochDay(epochDay);
+            value = date;
+        }
+        return date;
+    }
+
+    /**
+     * Returns true if the renewal is due within the specified number of days from the current date.
+     * Only tests use this; elsewhere the date is passed to {@link #isRenewalDueWithin(int, LocalDate)}.
      */
     public boolean isRenewalDueWithin(int days) {
-        long daysUntil = getDaysUntilRenewal();
+        return isRenewalDueWithin(days, AppClock.today());
+    }
+
+    /**
+     * Returns true if the renewal is due within the specified number of days from {@code today}.
+     */
+    public boolean isRenewalDueWithin(int days, LocalDate today) {
+        long daysUntil = getDaysUntilRenewal(today);
         return daysUntil >= 0 && daysUntil <= days;
     }
 
     @Override
     public String toString() {
-        return value.format(DATE_FORMATTER);
+        return getValue().format(DATE_FORMATTER);
     }
 
     @Override
@@ -111,11 +195,11 @@ public class RenewalDate {
         }
 
         RenewalDate otherRenewalDate = (RenewalDate) other;
-        return value.equals(otherRenewalDate.value);
+        return epochDay == otherRenewalDate.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(epochDay);
     }
 }
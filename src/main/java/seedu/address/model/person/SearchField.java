@@ -0,0 +1,27 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+/**
+ * The fields of a person that can be searched for substrings, such as by {@code find}.
+ */
+public enum SearchField {
+    NAME(person -> person.getName().fullName),
+    PHONE(person -> person.getPhone().value),
+    EMAIL(person -> person.getEmail().value),
+    ADDRESS(person -> person.getAddress().value),
+    POLICY_NUMBER(person -> person.getPolicy().policyNumber);
+
+    private final Function<Person, String> valueGetter;
+
+    SearchField(Function<Person, String> valueGetter) {
+        this.valueGetter = valueGetter;
+    }
+
+    /**
+     * Returns the value of this field of {@code person}, as it is displayed.
+     */
+    public String getValue(Person person) {
+        return valueGetter.apply(person);
+    }
+}
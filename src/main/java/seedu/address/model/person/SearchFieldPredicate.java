@@ -0,0 +1,19 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+/**
+ * A predicate testing whether a searchable field of a person contains any of a number of search terms.
+ */
+public interface SearchFieldPredicate extends IndexedPersonPredicate {
+
+    /**
+     * Returns the field searched.
+     */
+    SearchField getSearchField();
+
+    /**
+     * Returns the search terms, normalized by {@link seedu.address.commons.util.StringUtil#toSearchTerm(String)}.
+     */
+    List<String> getSearchTerms();
+}
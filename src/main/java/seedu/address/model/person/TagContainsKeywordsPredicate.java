@@ -1,10 +1,12 @@
 package seedu.address.model.person;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
@@ -13,9 +15,16 @@ import seedu.address.model.tag.Tag;
  */
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
     private final Set<Tag> tags;
+    private final String[] tagSearchTerms;
 
+    /**
+     * Creates a predicate matching any of {@code tags}, normalizing them for searching once up front.
+     */
     public TagContainsKeywordsPredicate(Set<Tag> tags) {
         this.tags = tags;
+        this.tagSearchTerms = (tags != null)
+                ? tags.stream().map(tag -> StringUtil.toSearchTerm(tag.tagName)).toArray(String[]::new)
+                : null;
     }
 
     /**
@@ -29,11 +38,14 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return tags.stream()
-                .anyMatch(tag ->
-                        person.getTags().stream()
-                                .anyMatch(personTag ->
-                                        personTag.tagName.equalsIgnoreCase(tag.tagName)));
+        return person.hasAnyTag(tagSearchTerms);
+    }
+
+    /**
+     * Returns the tag names, normalized by {@link StringUtil#toSearchTerm(String)}.
+     */
+    public List<String> getTagSearchTerms() {
+        return List.of(tagSearchTerms);
     }
 
     @Override
@@ -48,6 +60,11 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
         return tags.equals(otherPredicate.tags);
     }
 
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("tags", tags).toString();
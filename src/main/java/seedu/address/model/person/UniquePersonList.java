@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +20,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from a {@link PersonIdentityIndex} kept in sync with every mutation, so they take
+ * constant time regardless of the size of the list. Searches can likewise be narrowed down to candidate
+ * persons through a {@link PersonSearchIndex}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +33,42 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersonIdentityIndex identityIndex = new PersonIdentityIndex();
+    private PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsSamePerson(toCheck);
+    }
+
+    /**
+     * Returns the persons in the list whose policy number is {@code policyNumber}.
+     */
+    public List<Person> getByPolicyNumber(String policyNumber) {
+        requireNonNull(policyNumber);
+        return identityIndex.getByPolicyNumber(policyNumber);
+    }
+
+    /**
+     * Returns the persons in the list with the same identity as {@code toCheck}.
+     *
+     * @see Person#isSamePerson(Person)
+     */
+    public List<Person> getSamePersons(Person toCheck) {
+        requireNonNull(toCheck);
+        return identityIndex.getSamePersons(toCheck);
+    }
+
+    /**
+     * Returns the persons in the list that may satisfy {@code predicate}, as found through the search indexes,
+     * or {@code Optional#empty()} if the indexes cannot narrow them down.
+     */
+    public Optional<Set<Person>> getCandidates(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.getCandidates(searchIndex);
     }
 
     /**
@@ -45,9 +80,30 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identityIndex.add(toAdd);
+        searchIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list as a single change.
+     * None of the persons may already exist in the list, nor be duplicates of each other.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        PersonIdentityIndex addedIndex = new PersonIdentityIndex();
+        for (Person person : toAdd) {
+            if (contains(person) || addedIndex.containsSamePerson(person)) {
+                throw new DuplicatePersonException();
+            }
+            addedIndex.add(person);
+        }
+
+        toAdd.forEach(identityIndex::add);
+        toAdd.forEach(searchIndex::add);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -65,6 +121,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        identityIndex.remove(internalList.get(index));
+        identityIndex.add(editedPerson);
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +134,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // the search indexes hold the instance in the list, which may only be equal to toRemove
+        Person removed = internalList.remove(index);
+        identityIndex.remove(removed);
+        searchIndex.remove(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex = new PersonIdentityIndex(replacement.identityIndex);
+        searchIndex = new PersonSearchIndex(replacement.searchIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +157,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        PersonIdentityIndex replacementIndex = indexIfUnique(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        identityIndex = replacementIndex;
+        searchIndex = new PersonSearchIndex();
+        persons.forEach(searchIndex::add);
         internalList.setAll(persons);
     }
 
@@ -106,7 +177,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +206,16 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns an index over {@code persons} if they are all unique, or null if any two are the same person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private PersonIdentityIndex indexIfUnique(List<Person> persons) {
+        PersonIdentityIndex index = new PersonIdentityIndex();
+        for (Person person : persons) {
+            if (index.containsSamePerson(person)) {
+                return null;
             }
+            index.add(person);
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,25 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Receives the persons of an address book as they are read, before the rest of it has been read and checked.
+ * The address book finally read may still differ from the persons received, such as when the file turns out
+ * to be corrupted, or when later changes are replayed on top of it.
+ */
+@FunctionalInterface
+public interface AddressBookReadListener {
+
+    /** A listener that ignores the persons read. */
+    AddressBookReadListener IGNORE = (fromIndex, persons) -> {};
+
+    /**
+     * Called when {@code persons} have been read, replacing the persons received before from {@code fromIndex}
+     * onwards. Reading a file again from the start, such as the previous generation of a file that could not
+     * be read, starts again from index 0.
+     */
+    void personsRead(int fromIndex, List<Person> persons);
+
+}
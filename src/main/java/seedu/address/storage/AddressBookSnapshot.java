@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.parser.DateTimeParser;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons and last updated time of an address book, taken to be saved later.
+ * As persons are immutable, copying the list of persons is enough to isolate the snapshot from later changes,
+ * without building the indexes a full {@code AddressBook} keeps.
+ *
+ * Snapshots taken by a {@link PersonListChangeRecorder} are numbered, and carry the changes to the person list
+ * since the snapshot numbered {@code baseSequence} when they are known.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    /** The sequence number of no snapshot. */
+    static final long NO_SEQUENCE = 0;
+
+    private final ObservableList<Person> persons;
+    private final LocalDateTime lastUpdated;
+    private final long baseSequence;
+    private final long sequence;
+    private final List<PersonListChange> changes;
+
+    /**
+     * Takes snapshot number {@code sequence} of {@code addressBook}, whose person list was changed by
+     * {@code changes} since snapshot number {@code baseSequence}.
+     * {@code changes} is null and {@code baseSequence} is {@link #NO_SEQUENCE} if the changes are not known.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook, long baseSequence, long sequence,
+            List<PersonListChange> changes) {
+        requireNonNull(addressBook);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+        lastUpdated = addressBook.getLastUpdated();
+        this.baseSequence = baseSequence;
+        this.sequence = sequence;
+        this.changes = (changes != null) ? List.copyOf(changes) : null;
+    }
+
+    private AddressBookSnapshot(AddressBookSnapshot snapshot, long baseSequence, List<PersonListChange> changes) {
+        persons = snapshot.persons;
+        lastUpdated = snapshot.lastUpdated;
+        this.baseSequence = baseSequence;
+        this.sequence = snapshot.sequence;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns the snapshot to save in place of this snapshot and {@code nextSnapshot}, which was taken after it.
+     * The changes of both snapshots are combined if {@code nextSnapshot} carries the changes since this one.
+     */
+    AddressBookSnapshot followedBy(AddressBookSnapshot nextSnapshot) {
+        if (changes == null || nextSnapshot.changes == null || nextSnapshot.baseSequence != sequence) {
+            return nextSnapshot;
+        }
+        List<PersonListChange> combinedChanges = new ArrayList<>(changes);
+        combinedChanges.addAll(nextSnapshot.changes);
+        return new AddressBookSnapshot(nextSnapshot, baseSequence, List.copyOf(combinedChanges));
+    }
+
+    long getBaseSequence() {
+        return baseSequence;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the changes to the person list since snapshot number {@link #getBaseSequence()},
+     * or null if they are not known.
+     */
+    List<PersonListChange> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public LocalDateTime getLastUpdated() {
+        return lastUpdated;
+    }
+
+    @Override
+    public String getLastUpdatedString() {
+        return DateTimeParser.stringDateTime(lastUpdated);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -30,6 +31,23 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Similar to {@link #readAddressBook()}, also handing the persons to {@code listener} as they are read.
+     * Storages that read the whole address book at once hand over nothing.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBook(AddressBookReadListener listener)
+            throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath(), listener);
+    }
+
+    /**
+     * @see #readAddressBook(AddressBookReadListener)
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +60,16 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until every save accepted so far has been written.
+     * @throws IOException if the last of those writes failed.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler told about saves that fail after {@link #saveAddressBook(ReadOnlyAddressBook)} has returned.
+     * @param errorHandler cannot be null.
+     */
+    void setSaveErrorHandler(Consumer<IOException> errorHandler);
+
 }
@@ -0,0 +1,417 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ChecksummedFile;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Policy;
+import seedu.address.model.person.PolicyType;
+import seedu.address.model.person.RenewalDate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and a format version. It then holds the last updated time, a table of
+ * the distinct tag names and policy types, and the persons. Strings are length-prefixed UTF-8, tags and
+ * policy types are indexes into the table, and renewal dates are epoch days. Like JSON files, binary files
+ * are written atomically with a checksum trailer.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %1$d";
+    public static final String MESSAGE_MALFORMED_FILE = "Malformed binary address book file";
+
+    private static final byte[] MAGIC = {(byte) 0x89, 'A', 'B', 'K'};
+    private static final int FORMAT_VERSION = 1;
+    // The fewest bytes each item counted in the file takes, to reject counts the rest of the file cannot hold
+    private static final int MINIMUM_STRING_SIZE = Integer.BYTES;
+    private static final int MINIMUM_PERSON_SIZE = 6 * MINIMUM_STRING_SIZE + 3 * Integer.BYTES;
+
+    /** Number of persons read before they are handed to the listener together. */
+    private static final int READ_BATCH_SIZE = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Falls back to the previous generation of the file if the file is missing or cannot be loaded,
+     * as can happen if the app stopped while saving.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookReadListener.IGNORE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(listener);
+        return ChecksummedFile.readLatestGeneration(filePath, file -> readAddressBookFile(file, listener));
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the binary format's magic header.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, inputStream.readNBytes(MAGIC.length));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the address book in the binary file at {@code filePath}, verifying its checksum if it has one.
+     */
+    static ReadOnlyAddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        return readAddressBookFile(filePath, AddressBookReadListener.IGNORE);
+    }
+
+    /**
+     * Similar to {@link #readAddressBookFile(Path)}, also handing the persons to {@code listener} as they are read.
+     */
+    static ReadOnlyAddressBook readAddressBookFile(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
+        try (ChecksummedFile.VerifyingInputStream inputStream = ChecksummedFile.open(filePath)) {
+            ReadOnlyAddressBook addressBook = readFrom(inputStream, inputStream.getContentLength(), listener);
+            inputStream.verifyChecksum();
+            return new ChecksummedAddressBook(addressBook, inputStream.getChecksum());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ChecksummedFile.write(filePath, outputStream -> {
+            DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+            writeTo(addressBook, dataOutputStream);
+            dataOutputStream.flush();
+        });
+    }
+
+    /**
+     * Does nothing, as saves are written before {@link #saveAddressBook(ReadOnlyAddressBook)} returns.
+     */
+    @Override
+    public void flushAddressBook() {}
+
+    /**
+     * Does nothing, as failed saves are reported by {@link #saveAddressBook(ReadOnlyAddressBook)} throwing.
+     */
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> errorHandler) {}
+
+    /**
+     * Writes {@code source} in the binary format to {@code output}.
+     */
+    static void writeTo(ReadOnlyAddressBook source, DataOutputStream output) throws IOException {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : source.getPersonList()) {
+            stringTable.putIfAbsent(person.getPolicy().getType().toString(), stringTable.size());
+            for (Tag tag : person.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+        }
+
+        output.write(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+
+        LocalDateTime lastUpdated = source.getLastUpdated();
+        output.writeBoolean(lastUpdated != null);
+        if (lastUpdated != null) {
+            output.writeLong(lastUpdated.toEpochSecond(ZoneOffset.UTC));
+            output.writeInt(lastUpdated.getNano());
+        }
+
+        output.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(output, string);
+        }
+
+        output.writeInt(source.getPersonList().size());
+        for (Person person : source.getPersonList()) {
+            writeString(output, person.getName().fullName);
+            writeString(output, person.getPhone().value);
+            writeString(output, person.getEmail().value);
+            writeString(output, person.getAddress().value);
+            writeString(output, person.getNote().note);
+            writeString(output, person.getPolicy().getPolicyNumber());
+            output.writeInt(stringTable.get(person.getPolicy().getType().toString()));
+            output.writeInt(person.getRenewalEpochDay());
+            output.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                output.writeInt(stringTable.get(tag.tagName));
+            }
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from the {@code contentLength} bytes of {@code inputStream}.
+     * Each distinct tag and policy type is validated once, and the renewal dates need no parsing.
+     * As the checksum can only be verified after reading, every count read is checked against the bytes left,
+     * so that a corrupted count fails the read rather than allocating more memory than the file could fill.
+     *
+     * @throws IOException if the input is not a complete binary address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readFrom(InputStream inputStream, long contentLength) throws IOException, IllegalValueException {
+        return readFrom(inputStream, contentLength, AddressBookReadListener.IGNORE);
+    }
+
+    /**
+     * Similar to {@link #readFrom(InputStream, long)}, also handing the persons to {@code listener}
+     * in batches of {@link #READ_BATCH_SIZE} as they are read.
+     */
+    static AddressBook readFrom(InputStream inputStream, long contentLength, AddressBookReadListener listener)
+            throws IOException, IllegalValueException {
+        BoundedDataInputStream input = new BoundedDataInputStream(inputStream, contentLength);
+        byte[] magic = input.readNBytes(MAGIC.length);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = input.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        if (input.readBoolean()) {
+            long epochSecond = input.readLong();
+            int nano = input.readInt();
+            try {
+                addressBook.setLastUpdated(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+            } catch (RuntimeException e) {
+                throw new IOException(MESSAGE_MALFORMED_FILE, e);
+            }
+        }
+
+        String[] stringTable = new String[readCount(input, MINIMUM_STRING_SIZE)];
+        for (int i = 0; i < stringTable.length; i++) {
+            stringTable[i] = readString(input);
+        }
+        Tag[] tags = new Tag[stringTable.length];
+        PolicyType[] policyTypes = new PolicyType[stringTable.length];
+
+        int personCount = readCount(input, MINIMUM_PERSON_SIZE);
+        List<Person> batch = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(input, stringTable, tags, policyTypes);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+            batch.add(person);
+            if (batch.size() == READ_BATCH_SIZE || i == personCount - 1) {
+                listener.personsRead(i + 1 - batch.size(), List.copyOf(batch));
+                batch.clear();
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads a person from {@code input}, resolving its tags and policy type through {@code stringTable}.
+     * Tags and policy types are cached in {@code tags} and {@code policyTypes} once created.
+     */
+    private static Person readPerson(BoundedDataInputStream input, String[] stringTable, Tag[] tags,
+            PolicyType[] policyTypes) throws IOException, IllegalValueException {
+        String name = readString(input);
+        String phone = readString(input);
+        String email = readString(input);
+        String address = readString(input);
+        String note = readString(input);
+        String policyNumber = readString(input);
+        int policyTypeIndex = readIndex(input, stringTable);
+        int renewalEpochDay = input.readInt();
+        int tagCount = readCount(input, Integer.BYTES);
+        int[] tagIndexes = new int[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            tagIndexes[i] = readIndex(input, stringTable);
+        }
+
+        try {
+            if (policyTypes[policyTypeIndex] == null) {
+                policyTypes[policyTypeIndex] = PolicyType.fromString(stringTable[policyTypeIndex]);
+            }
+            Set<Tag> personTags = new HashSet<>();
+            for (int tagIndex : tagIndexes) {
+                if (tags[tagIndex] == null) {
+                    tags[tagIndex] = new Tag(stringTable[tagIndex]);
+                }
+                personTags.add(tags[tagIndex]);
+            }
+            Policy policy = new Policy(policyNumber, RenewalDate.ofEpochDay(renewalEpochDay),
+                    policyTypes[policyTypeIndex]);
+            return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), policy,
+                    note.isEmpty() ? Note.EMPTY : new Note(note), personTags);
+        } catch (RuntimeException e) {
+            // the model's constructors reject invalid values with IllegalArgumentException
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(BoundedDataInputStream input) throws IOException {
+        byte[] bytes = new byte[readCount(input, Byte.BYTES)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of items that follow, each taking at least {@code minimumItemSize} bytes.
+     *
+     * @throws IOException if the count is negative or the items cannot fit in the bytes left.
+     */
+    private static int readCount(BoundedDataInputStream input, int minimumItemSize) throws IOException {
+        int count = input.readInt();
+        if (count < 0 || (long) count * minimumItemSize > input.getRemaining()) {
+            throw new IOException(MESSAGE_MALFORMED_FILE);
+        }
+        return count;
+    }
+
+    private static int readIndex(BoundedDataInputStream input, String[] stringTable) throws IOException {
+        int index = input.readInt();
+        if (index < 0 || index >= stringTable.length) {
+            throw new IOException(MESSAGE_MALFORMED_FILE);
+        }
+        return index;
+    }
+
+    /**
+     * Reads content of a known length, keeping count of the bytes left to read.
+     */
+    private static class BoundedDataInputStream extends DataInputStream {
+        BoundedDataInputStream(InputStream inputStream, long length) {
+            super(new RemainingCountingInputStream(inputStream, length));
+        }
+
+        long getRemaining() {
+            return ((RemainingCountingInputStream) in).remaining;
+        }
+    }
+
+    /**
+     * Counts down the bytes left of content of a known length as they are read.
+     */
+    private static class RemainingCountingInputStream extends FilterInputStream {
+        private long remaining;
+
+        RemainingCountingInputStream(InputStream inputStream, long length) {
+            super(inputStream);
+            remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
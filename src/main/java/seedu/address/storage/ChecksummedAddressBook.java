@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An address book read from a {@link seedu.address.commons.util.ChecksummedFile}, along with the checksum of
+ * the content it was read from, which identifies the generation of the file that was read.
+ */
+class ChecksummedAddressBook implements ReadOnlyAddressBook {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final Long checksum;
+
+    /**
+     * Wraps {@code addressBook}, read from content with {@code checksum}.
+     * {@code checksum} is empty if the content had no checksum.
+     */
+    ChecksummedAddressBook(ReadOnlyAddressBook addressBook, Optional<Long> checksum) {
+        requireNonNull(addressBook);
+        requireNonNull(checksum);
+        this.addressBook = addressBook;
+        this.checksum = checksum.orElse(null);
+    }
+
+    /**
+     * Returns the checksum of the content of {@code addressBook} if it was read from a checksummed file,
+     * or an empty {@code Optional} otherwise.
+     */
+    static Optional<Long> getChecksum(ReadOnlyAddressBook addressBook) {
+        return (addressBook instanceof ChecksummedAddressBook)
+                ? Optional.ofNullable(((ChecksummedAddressBook) addressBook).checksum)
+                : Optional.empty();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return addressBook.getPersonList();
+    }
+
+    @Override
+    public LocalDateTime getLastUpdated() {
+        return addressBook.getLastUpdated();
+    }
+
+    @Override
+    public String getLastUpdatedString() {
+        return addressBook.getLastUpdatedString();
+    }
+}
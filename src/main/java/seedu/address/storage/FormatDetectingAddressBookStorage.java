@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ChecksummedFile;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@link AddressBookStorage} that reads data files in either the JSON or the binary format,
+ * detecting the format of each file by its magic header, and saves them in the preferred format.
+ *
+ * Switching the preferred format therefore needs no conversion step: the data file is read in its old format
+ * and written in the new one at the next save.
+ */
+public class FormatDetectingAddressBookStorage implements AddressBookStorage {
+
+    private final AddressBookStorage saveStorage;
+
+    /**
+     * Creates a {@code FormatDetectingAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isBinary whether saved files are in the binary format, rather than JSON.
+     * @param isPrettyPrinted whether saved JSON files are indented for reading, rather than in compact form.
+     */
+    public FormatDetectingAddressBookStorage(Path filePath, boolean isBinary, boolean isPrettyPrinted) {
+        requireNonNull(filePath);
+        saveStorage = isBinary
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath, isPrettyPrinted);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return saveStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Each generation of the file is read in the format it was written in.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookReadListener.IGNORE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(listener);
+        return ChecksummedFile.readLatestGeneration(filePath, file -> readAddressBookFile(file, listener));
+    }
+
+    private static ReadOnlyAddressBook readAddressBookFile(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
+        return BinaryAddressBookStorage.isBinaryFile(filePath)
+                ? BinaryAddressBookStorage.readAddressBookFile(filePath, listener)
+                : JsonAddressBookStorage.readAddressBookFile(filePath, listener);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        saveStorage.flushAddressBook();
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> errorHandler) {
+        saveStorage.setSaveErrorHandler(errorHandler);
+    }
+}
@@ -0,0 +1,409 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ChecksummedFile;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@link AddressBookStorage} that saves each change to the person list as a record appended to a journal
+ * next to the data file, instead of rewriting the whole data file.
+ *
+ * The data file written by {@code storage} serves as the snapshot the journal is replayed on top of.
+ * The changes to write are those recorded by the person list as it was changed, so a save takes time in
+ * proportion to the change rather than to the address book. Saves must be made on the thread that changes the
+ * address book, unless they are snapshots taken by a {@link WriteBehindAddressBookStorage}.
+ * Once a save takes the journal past the compaction threshold, a fresh snapshot of the latest save is written
+ * on a background thread, starting an empty journal, so that no save takes time in proportion to the address
+ * book unless its changes are not known. Saves made while the snapshot is written wait for it.
+ * The journal starts with the checksum in the trailer of the snapshot it belongs to, so a journal left behind
+ * by a compaction that was interrupted after the snapshot was written is recognised and not replayed twice.
+ * Nor is a journal replayed on the previous generation of the snapshot, read when the latest cannot be.
+ * {@code storage} must therefore write and read its files as {@link ChecksummedFile}s.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String MESSAGE_SNAPSHOT_WITHOUT_CHECKSUM = "Data file %s has no checksum to identify it";
+
+    private final AddressBookStorage storage;
+    private final long compactionThreshold;
+
+    private final PersonListChangeRecorder changeRecorder = new PersonListChangeRecorder();
+    private final ExecutorService compactor;
+
+    // The snapshot the journal is up to date with, or NO_SEQUENCE if it is not known
+    private long savedSequence = AddressBookSnapshot.NO_SEQUENCE;
+    // The persons read from the journal, compared with the first snapshot saved after reading, or null if unknown
+    private List<Person> readPersons;
+    private LocalDateTime savedLastUpdated;
+    // The latest snapshot saved to the data file or its journal, written out when the journal is compacted
+    private AddressBookSnapshot savedSnapshot;
+    private long journalSize;
+    private boolean isCompactionScheduled;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes snapshots through {@code storage},
+     * compacting the journal once it is larger than {@link #DEFAULT_COMPACTION_THRESHOLD} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage storage) {
+        this(storage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes snapshots through {@code storage},
+     * compacting the journal once it is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage storage, long compactionThreshold) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.compactionThreshold = compactionThreshold;
+        compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookReadListener.IGNORE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the persons of the snapshot are handed to {@code listener}, as the journal is replayed after it is read.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath,
+            AddressBookReadListener listener) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(listener);
+
+        Optional<ReadOnlyAddressBook> snapshot = storage.readAddressBook(filePath, listener);
+        boolean isOwnFile = filePath.equals(storage.getAddressBookFilePath());
+        if (isOwnFile) {
+            forgetSaved();
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        JournalReplay replay;
+        try {
+            // Compared with the generation of the data file that was read, which is not the latest if that failed
+            replay = replayJournal(journalFilePath, ChecksummedAddressBook.getChecksum(snapshot.get()), persons);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (replay == null) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        LocalDateTime lastUpdated = (replay.lastUpdated != null)
+                ? replay.lastUpdated
+                : snapshot.get().getLastUpdated();
+        addressBook.setLastUpdated(lastUpdated);
+
+        // Appending after an incomplete record would corrupt the journal, so it is compacted on the next save
+        if (isOwnFile && replay.isComplete) {
+            readPersons = persons;
+            savedLastUpdated = lastUpdated;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the storage's own data file are journaled; saves to any other file are written by
+     * {@code storage} alone, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(storage.getAddressBookFilePath())) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        AddressBookSnapshot snapshot = (addressBook instanceof AddressBookSnapshot)
+                ? (AddressBookSnapshot) addressBook
+                : changeRecorder.takeSnapshot(addressBook);
+        try {
+            if (!appendChanges(snapshot, filePath)) {
+                writeSnapshot(snapshot, filePath);
+            }
+        } catch (IOException ioe) {
+            // The journal may end in a partly written record, so start afresh from a snapshot next time
+            forgetSaved();
+            throw ioe;
+        }
+        savedSequence = snapshot.getSequence();
+        readPersons = null;
+        savedLastUpdated = snapshot.getLastUpdated();
+        savedSnapshot = snapshot;
+
+        if (journalSize >= compactionThreshold && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactor.execute(this::compactJournal);
+        }
+    }
+
+    /**
+     * Blocks until every save accepted so far has been written, including any compaction of the journal.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        storage.flushAddressBook();
+        try {
+            // The compactor runs tasks in order, so this completes only after every compaction scheduled before it
+            compactor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the journal to be compacted");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> errorHandler) {
+        storage.setSaveErrorHandler(errorHandler);
+    }
+
+    /**
+     * Appends the changes made to the person list since the last save to the journal of {@code filePath}.
+     * The changes are those carried by {@code snapshot}. If the journal was just read instead, the persons read
+     * are compared with {@code snapshot} once to find them.
+     *
+     * @return false if the changes are not known, and a snapshot has to be written instead.
+     */
+    private boolean appendChanges(AddressBookSnapshot snapshot, Path filePath) throws IOException {
+        List<PersonListChange> changes;
+        if (savedSequence != AddressBookSnapshot.NO_SEQUENCE && snapshot.getBaseSequence() == savedSequence) {
+            changes = snapshot.getChanges();
+        } else if (readPersons != null) {
+            changes = PersonListChange.between(readPersons, snapshot.getPersonList()).stream().toList();
+        } else {
+            return false;
+        }
+        LocalDateTime lastUpdated = snapshot.getLastUpdated();
+        if (changes.isEmpty() && Objects.equals(savedLastUpdated, lastUpdated)) {
+            return true;
+        }
+        if (changes.isEmpty()) {
+            changes = List.of(new PersonListChange(0, 0, List.of()));
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+                JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel), false)) {
+            for (PersonListChange change : changes) {
+                generator.writeObject(new JsonAdaptedJournalRecord(change.getFrom(), change.getRemovedCount(),
+                        change.getAddedPersons(), lastUpdated));
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+            // Forced to the disk, as snapshots are, so that a save that has returned survives a crash
+            channel.force(false);
+            journalSize = channel.size();
+        }
+        return true;
+    }
+
+    /**
+     * Writes the latest snapshot saved to the data file, replacing the journal, unless a snapshot has been
+     * written since the compaction was scheduled. A failed compaction leaves the journal as it was, as the saves
+     * in it are already on the disk, so it is only logged.
+     */
+    private synchronized void compactJournal() {
+        isCompactionScheduled = false;
+        if (journalSize < compactionThreshold || savedSnapshot == null) {
+            return;
+        }
+
+        try {
+            writeSnapshot(savedSnapshot, storage.getAddressBookFilePath());
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact journal of data file " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(ioe));
+            // The journal may no longer belong to the data file, so the next save writes a snapshot instead
+            forgetSaved();
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} through the underlying storage,
+     * then replaces its journal with an empty one belonging to the new snapshot.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Writing snapshot to data file: " + filePath);
+        storage.saveAddressBook(addressBook, filePath);
+        storage.flushAddressBook();
+        // The checksum was computed as the snapshot was written, so only its trailer needs to be read
+        long snapshotChecksum = ChecksummedFile.readChecksum(filePath).orElseThrow(() ->
+                new IOException(String.format(MESSAGE_SNAPSHOT_WITHOUT_CHECKSUM, filePath)));
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path temporaryFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel), false)) {
+            generator.writeObject(new JournalHeader(snapshotChecksum));
+            generator.writeRaw('\n');
+            generator.flush();
+            // Forced before the rename, so that the journal is never replaced by one that is not on the disk yet
+            channel.force(false);
+            journalSize = channel.size();
+        }
+        Files.move(temporaryFilePath, journalFilePath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code persons}.
+     * A final record that is cut short, as left by a crash while it was being appended, is ignored.
+     *
+     * @return the outcome of the replay, or null if the journal does not belong to the snapshot with
+     *     {@code snapshotChecksum} and was not replayed.
+     */
+    private JournalReplay replayJournal(Path journalFilePath, Optional<Long> snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !snapshotChecksum.equals(
+                    Optional.of(JsonUtil.fromJsonString(headerLine, JournalHeader.class).snapshotChecksum))) {
+                logger.warning("Journal " + journalFilePath + " does not belong to the data file, ignoring it.");
+                return null;
+            }
+
+            JournalReplay replay = new JournalReplay();
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException ioe) {
+                    if (nextLine != null) {
+                        throw ioe;
+                    }
+                    logger.warning("Ignoring incomplete last record in journal " + journalFilePath);
+                    replay.isComplete = false;
+                    break;
+                }
+                record.applyTo(persons);
+                if (record.getLastUpdated() != null) {
+                    replay.lastUpdated = record.getLastUpdated();
+                }
+                line = nextLine;
+            }
+            return replay;
+        }
+    }
+
+    private void forgetSaved() {
+        savedSequence = AddressBookSnapshot.NO_SEQUENCE;
+        readPersons = null;
+        savedSnapshot = null;
+    }
+
+    /**
+     * The first line of a journal, identifying the snapshot the journal belongs to.
+     */
+    static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class JournalReplay {
+        private LocalDateTime lastUpdated;
+        private boolean isComplete = true;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the person list, as recorded in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ *
+ * A record replaces {@code removed} persons starting at index {@code from} with {@code persons},
+ * which covers adding, editing, renewing and deleting a person as well as clearing the list.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String INVALID_RANGE_MESSAGE = "Journal record does not fit the person list!";
+
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final JsonAdaptedDateTime lastUpdated;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("lastUpdated") JsonAdaptedDateTime lastUpdated) {
+        this.from = from;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.lastUpdated = lastUpdated;
+    }
+
+    /**
+     * Converts a change that replaced {@code removed} persons starting at {@code from} with {@code persons}
+     * into this class for Jackson use.
+     */
+    public JsonAdaptedJournalRecord(int from, int removed, List<Person> persons, LocalDateTime lastUpdated) {
+        this.from = from;
+        this.removed = removed;
+        persons.stream().map(JsonAdaptedPerson::new).forEach(this.persons::add);
+        this.lastUpdated = new JsonAdaptedDateTime(lastUpdated);
+    }
+
+    /**
+     * Applies this change to {@code personList}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code personList},
+     *     or any of the persons added violate data constraints.
+     */
+    public void applyTo(List<Person> personList) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > personList.size()) {
+            throw new IllegalValueException(INVALID_RANGE_MESSAGE);
+        }
+
+        List<Person> addedPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            addedPersons.add(person.toModelType());
+        }
+        personList.subList(from, from + removed).clear();
+        personList.addAll(from, addedPersons);
+    }
+
+    /**
+     * Returns the time the address book was last updated after this change, or null if it was not recorded.
+     *
+     * @throws IllegalValueException if the recorded time is not in the expected format.
+     */
+    public LocalDateTime getLastUpdated() throws IllegalValueException {
+        return (lastUpdated != null) ? lastUpdated.toModelType() : null;
+    }
+}
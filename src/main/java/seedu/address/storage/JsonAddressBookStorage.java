@@ -3,13 +3,20 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ChecksummedFile;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -22,9 +29,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved files are indented for reading, rather than in compact form.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,24 +56,47 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Falls back to the previous generation of the file if the file is missing or cannot be loaded,
+     * as can happen if the app stopped while saving.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookReadListener.IGNORE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(listener);
+        return ChecksummedFile.readLatestGeneration(filePath, file -> readAddressBookFile(file, listener));
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
+    /**
+     * Reads the address book in the file at {@code filePath}, verifying its checksum if it has one.
+     */
+    static ReadOnlyAddressBook readAddressBookFile(Path filePath) throws DataLoadingException {
+        return readAddressBookFile(filePath, AddressBookReadListener.IGNORE);
+    }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+    /**
+     * Similar to {@link #readAddressBookFile(Path)}, also handing the persons to {@code listener} as they are read.
+     */
+    static ReadOnlyAddressBook readAddressBookFile(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
+        try (ChecksummedFile.VerifyingInputStream inputStream = ChecksummedFile.open(filePath);
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.readAddressBook(parser, listener);
+            inputStream.verifyChecksum();
+            return new ChecksummedAddressBook(addressBook, inputStream.getChecksum());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -73,8 +114,50 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // Written to a temporary file and renamed over the data file, so a crash never leaves it half written
+        ChecksummedFile.write(filePath, outputStream -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(outputStream, isPrettyPrinted)) {
+                JsonSerializableAddressBook.writeAddressBook(addressBook, generator);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath} as indented JSON without a checksum trailer,
+     * so that other programs can read it.
+     */
+    public static void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (OutputStream outputStream = Files.newOutputStream(filePath);
+                JsonGenerator generator = JsonUtil.createGenerator(outputStream, true)) {
+            JsonSerializableAddressBook.writeAddressBook(addressBook, generator);
+        }
     }
 
+    /**
+     * Reads the address book in the JSON file at {@code filePath}, such as one written by
+     * {@link #exportAddressBook(ReadOnlyAddressBook, Path)} or by another program.
+     *
+     * @throws DataLoadingException if the file is missing or does not hold a valid address book.
+     */
+    public static ReadOnlyAddressBook importAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return readAddressBookFile(filePath);
+    }
+
+    /**
+     * Does nothing, as saves are written before {@link #saveAddressBook(ReadOnlyAddressBook)} returns.
+     */
+    @Override
+    public void flushAddressBook() {}
+
+    /**
+     * Does nothing, as failed saves are reported by {@link #saveAddressBook(ReadOnlyAddressBook)} throwing.
+     */
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> errorHandler) {}
+
 }
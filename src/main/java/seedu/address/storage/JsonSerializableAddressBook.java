@@ -1,11 +1,17 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -23,6 +29,11 @@ class JsonSerializableAddressBook {
     private static final String DATE_TIME_PATTERN = "M/d/yyyy HHmm";
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
 
+    /** Number of persons read before they are converted together, bounding the memory used while loading. */
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+    /** Smallest number of persons worth converting on several threads. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 256;
+
 
     @JsonProperty("persons")
     private List<JsonAdaptedPerson> persons = new ArrayList<>();
@@ -49,17 +60,166 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        addPersons(persons, addressBook);
+        if (lastUpdated != null) { // in case of empty field
+            addressBook.setLastUpdated(lastUpdated.toModelType());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code source} in the format of this class to {@code generator}, one person at a time,
+     * without first building the whole list of {@code JsonAdaptedPerson}.
+     *
+     * @throws IOException if there was any problem writing the JSON.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeObjectField("lastUpdated", new JsonAdaptedDateTime(source.getLastUpdated()));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, one person at a time.
+     * Each person is converted and added to the model's {@code AddressBook} as soon as it is read,
+     * so the whole list of {@code JsonAdaptedPerson} is never held in memory.
+     *
+     * @throws IOException if the JSON could not be read or is not an address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        return readAddressBook(parser, AddressBookReadListener.IGNORE);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(JsonParser)}, also handing each batch of persons to {@code listener}
+     * once it has been converted.
+     */
+    public static AddressBook readAddressBook(JsonParser parser, AddressBookReadListener listener)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (fieldName.equals("persons") && valueToken == JsonToken.START_ARRAY) {
+                readPersons(parser, addressBook, listener);
+            } else if (fieldName.equals("lastUpdated") && valueToken != JsonToken.VALUE_NULL) {
+                addressBook.setLastUpdated(parser.readValueAs(JsonAdaptedDateTime.class).toModelType());
+            } else {
+                // Unknown fields are ignored, as when reading the whole file at once
+                parser.skipChildren();
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the elements of the persons array {@code parser} is at into {@code addressBook}, in batches,
+     * handing each batch to {@code listener}.
+     */
+    private static void readPersons(JsonParser parser, AddressBook addressBook, AddressBookReadListener listener)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            try {
+                if (parser.currentToken() == null) {
+                    throw new JsonParseException(parser, "Unexpected end of persons list");
+                }
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            } catch (IOException e) {
+                // an invalid person before the unreadable one is reported first, as when reading one at a time
+                addPersons(batch, addressBook);
+                throw e;
+            }
+
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                addPersons(batch, addressBook, listener);
+                batch.clear();
+            }
+        }
+        addPersons(batch, addressBook, listener);
+    }
+
+    /**
+     * Adds {@code adaptedPersons} to {@code addressBook} as {@link #addPersons(List, AddressBook)} does,
+     * then hands the persons added to {@code listener}.
+     */
+    private static void addPersons(List<JsonAdaptedPerson> adaptedPersons, AddressBook addressBook,
+            AddressBookReadListener listener) throws IllegalValueException {
+        int fromIndex = addressBook.getPersonList().size();
+        List<Person> persons = addPersons(adaptedPersons, addressBook);
+        if (!persons.isEmpty()) {
+            listener.personsRead(fromIndex, persons);
+        }
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects and adds them to {@code addressBook}
+     * in order, returning the persons added. Larger lists are converted, and so validated, on several threads.
+     * The uniqueness check then runs on this thread in the original order, so the error reported is that of
+     * the first invalid or duplicate person, as when converting one person at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static List<Person> addPersons(List<JsonAdaptedPerson> adaptedPersons, AddressBook addressBook)
+            throws IllegalValueException {
+        Stream<JsonAdaptedPerson> adaptedPersonStream = adaptedPersons.size() >= PARALLEL_CONVERSION_THRESHOLD
+                ? adaptedPersons.parallelStream()
+                : adaptedPersons.stream();
+        List<Conversion> conversions = adaptedPersonStream.map(Conversion::of).toList();
+
+        List<Person> persons = new ArrayList<>(conversions.size());
+        for (Conversion conversion : conversions) {
+            Person person = conversion.getPerson();
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
+            persons.add(person);
         }
-        if (lastUpdated != null) { // in case of empty field
-            addressBook.setLastUpdated(lastUpdated.toModelType());
+        return persons;
+    }
+
+    /**
+     * The result of converting a {@code JsonAdaptedPerson}: either the person, or why it could not be converted.
+     */
+    private static class Conversion {
+        private final Person person;
+        private final IllegalValueException error;
+
+        private Conversion(Person person, IllegalValueException error) {
+            this.person = person;
+            this.error = error;
+        }
+
+        static Conversion of(JsonAdaptedPerson adaptedPerson) {
+            try {
+                return new Conversion(adaptedPerson.toModelType(), null);
+            } catch (IllegalValueException e) {
+                return new Conversion(null, e);
+            }
+        }
+
+        /**
+         * Returns the converted person.
+         *
+         * @throws IllegalValueException if the person could not be converted.
+         */
+        Person getPerson() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return person;
         }
-        return addressBook;
     }
 
 }
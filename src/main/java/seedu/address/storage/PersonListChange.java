@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * One change to a list of persons, replacing {@code removedCount} persons starting at index {@code from}
+ * with the persons added.
+ */
+class PersonListChange {
+
+    private final int from;
+    private final int removedCount;
+    private final List<Person> addedPersons;
+
+    /**
+     * Every field must be present and not null.
+     */
+    PersonListChange(int from, int removedCount, List<? extends Person> addedPersons) {
+        requireNonNull(addedPersons);
+        this.from = from;
+        this.removedCount = removedCount;
+        this.addedPersons = List.copyOf(addedPersons);
+    }
+
+    /**
+     * Returns the single change that turns {@code before} into {@code after}, found by skipping the persons
+     * at the start and end of the lists that are the same, or an empty {@code Optional} if the lists are equal.
+     */
+    static Optional<PersonListChange> between(List<Person> before, List<Person> after) {
+        int commonSize = Math.min(before.size(), after.size());
+        int from = 0;
+        while (from < commonSize && isUnchanged(before.get(from), after.get(from))) {
+            from++;
+        }
+        int unchangedAtEnd = 0;
+        while (unchangedAtEnd < commonSize - from && isUnchanged(
+                before.get(before.size() - 1 - unchangedAtEnd), after.get(after.size() - 1 - unchangedAtEnd))) {
+            unchangedAtEnd++;
+        }
+        int removedCount = before.size() - from - unchangedAtEnd;
+        List<Person> addedPersons = after.subList(from, after.size() - unchangedAtEnd);
+        if (removedCount == 0 && addedPersons.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PersonListChange(from, removedCount, addedPersons));
+    }
+
+    private static boolean isUnchanged(Person before, Person after) {
+        return before == after || before.equals(after);
+    }
+
+    int getFrom() {
+        return from;
+    }
+
+    int getRemovedCount() {
+        return removedCount;
+    }
+
+    List<Person> getAddedPersons() {
+        return addedPersons;
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     */
+    void applyTo(List<Person> persons) {
+        persons.subList(from, from + removedCount).clear();
+        persons.addAll(from, addedPersons);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonListChange)) {
+            return false;
+        }
+
+        PersonListChange otherChange = (PersonListChange) other;
+        return from == otherChange.from
+                && removedCount == otherChange.removedCount
+                && addedPersons.equals(otherChange.addedPersons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removedCount, addedPersons);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("removedCount", removedCount)
+                .add("addedPersons", addedPersons)
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Takes snapshots of an address book together with the changes made to its person list since the previous
+ * snapshot, as reported by the list, so that saving a snapshot can write just those changes.
+ *
+ * The recorder listens to the person list of the address book it last took a snapshot of. It must be used on
+ * the thread that changes that address book, as the list reports its changes on that thread.
+ */
+class PersonListChangeRecorder {
+
+    // Shared by all recorders, so that a snapshot is never mistaken for one taken by another recorder
+    private static final AtomicLong lastSequence = new AtomicLong(AddressBookSnapshot.NO_SEQUENCE);
+
+    private final ListChangeListener<Person> listener = this::record;
+    private ObservableList<Person> recordedList;
+    private List<PersonListChange> changes = new ArrayList<>();
+    private long lastSnapshotSequence = AddressBookSnapshot.NO_SEQUENCE;
+
+    /**
+     * Takes a snapshot of {@code addressBook}.
+     * The snapshot carries the changes since the previous snapshot if that was of the same person list,
+     * and starts recording changes to the person list otherwise.
+     */
+    AddressBookSnapshot takeSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        ObservableList<Person> personList = addressBook.getPersonList();
+        long sequence = lastSequence.incrementAndGet();
+        AddressBookSnapshot snapshot;
+        if (personList == recordedList) {
+            snapshot = new AddressBookSnapshot(addressBook, lastSnapshotSequence, sequence, changes);
+        } else {
+            if (recordedList != null) {
+                recordedList.removeListener(listener);
+            }
+            recordedList = personList;
+            recordedList.addListener(listener);
+            snapshot = new AddressBookSnapshot(addressBook, AddressBookSnapshot.NO_SEQUENCE, sequence, null);
+        }
+        changes = new ArrayList<>();
+        lastSnapshotSequence = sequence;
+        return snapshot;
+    }
+
+    /**
+     * Records {@code change} as replacements of ranges of the list, in the order they apply.
+     * A permutation or update is recorded as a replacement of the range it covers.
+     */
+    private void record(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                changes.add(new PersonListChange(from, to - from, change.getList().subList(from, to)));
+            } else {
+                changes.add(new PersonListChange(from, change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -60,8 +61,14 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookReadListener.IGNORE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        return addressBookStorage.readAddressBook(filePath, listener);
     }
 
     @Override
@@ -75,4 +82,14 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> errorHandler) {
+        addressBookStorage.setSaveErrorHandler(errorHandler);
+    }
+
 }
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@link AddressBookStorage} that saves address books on a background thread.
+ *
+ * Saving takes a snapshot of the persons in the address book, along with the changes made to them since the
+ * previous save, and returns immediately, leaving the write to {@code storage}.
+ * Saves must be made on the thread that changes the address book, as that is where the changes are recorded.
+ * Saves that arrive while a write is waiting or in progress are coalesced, so that a burst of changes
+ * results in a single write of the latest snapshot, carrying all of the changes, for each file.
+ * Failed writes are reported to the save error handler, and by {@link #flushAddressBook()}.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer;
+    private final PersonListChangeRecorder changeRecorder = new PersonListChangeRecorder();
+    private final Map<Path, AddressBookSnapshot> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+    private volatile IOException lastSaveError;
+    private volatile Consumer<IOException> saveErrorHandler = unused -> {};
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes through {@code storage}.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Waits for pending saves to be written first, so that the data read is the latest saved.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, AddressBookReadListener.IGNORE);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, AddressBookReadListener listener)
+            throws DataLoadingException {
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Reading data file after a failed save: " + StringUtil.getDetails(e));
+        }
+        return storage.readAddressBook(filePath, listener);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot snapshot = changeRecorder.takeSnapshot(addressBook);
+        synchronized (pendingSaves) {
+            pendingSaves.merge(filePath, snapshot, AddressBookSnapshot::followedBy);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePendingSaves);
+            }
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        try {
+            // The writer runs tasks in order, so this completes only after every write scheduled before it
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for address book to be saved");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException saveError = lastSaveError;
+        if (saveError != null) {
+            throw saveError;
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        saveErrorHandler = errorHandler;
+    }
+
+    /**
+     * Writes the latest snapshot saved for each file since the previous write.
+     */
+    private void writePendingSaves() {
+        Map<Path, AddressBookSnapshot> saves;
+        synchronized (pendingSaves) {
+            saves = new LinkedHashMap<>(pendingSaves);
+            pendingSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        for (Map.Entry<Path, AddressBookSnapshot> save : saves.entrySet()) {
+            try {
+                storage.saveAddressBook(save.getValue(), save.getKey());
+                lastSaveError = null;
+            } catch (IOException e) {
+                logger.warning("Failed to save data file " + save.getKey() + ": " + StringUtil.getDetails(e));
+                lastSaveError = e;
+                saveErrorHandler.accept(e);
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.logic.LiveSearch;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -16,21 +19,43 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** Time after the last keystroke before a {@code find} command being typed is searched. */
+    private static final Duration SEARCH_DELAY = Duration.millis(150);
+
     private final CommandExecutor commandExecutor;
+    private final CommandSearcher commandSearcher;
     private final ResultDisplay resultDisplay;
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, searching {@code find} commands
+     * with the given {@code CommandSearcher} while they are being typed.
      */
-    public CommandBox(CommandExecutor commandExecutor, ResultDisplay resultDisplay) {
+    public CommandBox(CommandExecutor commandExecutor, CommandSearcher commandSearcher, ResultDisplay resultDisplay) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandSearcher = commandSearcher;
         this.resultDisplay = resultDisplay;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> handleCommandTextChanged(newText));
+        searchDelay.setOnFinished(unused -> commandSearcher.search(commandTextField.getText()));
+    }
+
+    /**
+     * Searches a {@code find} command once typing pauses, so that each keystroke does not start a search.
+     * Any other text stops the searches of the command typed before it.
+     */
+    private void handleCommandTextChanged(String commandText) {
+        if (LiveSearch.isSearchCommand(commandText)) {
+            searchDelay.playFromStart();
+        } else {
+            searchDelay.stop();
+            commandSearcher.search(commandText);
+        }
     }
 
     /**
@@ -42,6 +67,7 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        searchDelay.stop();
 
         try {
             commandExecutor.execute(commandText);
@@ -85,4 +111,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that searches commands while they are being typed.
+     */
+    @FunctionalInterface
+    public interface CommandSearcher {
+        /**
+         * Searches {@code commandText}, superseding the earlier searches.
+         *
+         * @see seedu.address.logic.LiveSearch#search(String, java.util.function.Consumer)
+         */
+        void search(String commandText);
+    }
+
 }
@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
 import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ListChangeListener;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -16,6 +19,7 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LiveSearch;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -45,6 +49,14 @@ public class MainWindow extends UiPart<Stage> {
 
     private StatusBarFooter statusBarFooter;
 
+    // Tests the persons of find commands being typed, away from the JavaFX thread
+    private final ExecutorService liveSearchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private LiveSearch liveSearch;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -137,14 +149,19 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        // Saves are written in the background, so their errors arrive off the JavaFX thread
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         String lastUpdated = logic.getModel().getAddressBook().getLastUpdatedString();
         int personCount = logic.getFilteredPersonList().size();
         statusBarFooter = new StatusBarFooter(
             logic.getAddressBookFilePath(), lastUpdated, personCount);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        statusBarFooter.setLoading(logic.isLoading());
+        logic.setLoadedHandler(this::handleLoaded);
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, resultDisplay);
+        liveSearch = new LiveSearch(logic, liveSearchExecutor, Platform::runLater);
+        CommandBox commandBox = new CommandBox(this::executeCommand, this::searchCommand, resultDisplay);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         renewalsTable = new RenewalsTable(logic.getModel());
@@ -159,6 +176,9 @@ public class MainWindow extends UiPart<Stage> {
                     < logic.getModel().getAddressBook().getPersonList().size();
             showAllButton.setVisible(isFiltered);
             showAllButton.setManaged(isFiltered);
+            if (logic.isLoading()) {
+                statusBarFooter.updatePersonCount(logic.getFilteredPersonList().size());
+            }
         });
         personListPanel.getListView().getSelectionModel().selectedItemProperty().addListener((
             observable, oldSelection, newSelection) -> {
@@ -172,6 +192,19 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Hides the loading indicator once the address book has loaded, showing why changes are not saved if it failed.
+     */
+    private void handleLoaded() {
+        statusBarFooter.setLoading(false);
+        statusBarFooter.updateLastUpdated(logic.getModel().getAddressBook().getLastUpdatedString());
+        statusBarFooter.updatePersonCount(logic.getFilteredPersonList().size());
+        if (!logic.getFilteredPersonList().isEmpty()) {
+            renewalsTable.showRenewals();
+        }
+        logic.getLoadingErrorMessage().ifPresent(resultDisplay::setFeedbackToUser);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -211,6 +244,7 @@ public class MainWindow extends UiPart<Stage> {
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
+        liveSearchExecutor.shutdownNow();
     }
 
     @FXML
@@ -243,12 +277,61 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Searches the {@code find} command being typed, showing its matches once they are found.
+     *
+     * @see seedu.address.logic.LiveSearch#search(String, java.util.function.Consumer)
+     */
+    private void searchCommand(String commandText) {
+        liveSearch.search(commandText, commandResult -> {
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            selectFirstFoundPerson();
+            updatePersonListViews();
+        });
+    }
+
+    /**
+     * Selects the first person found by a {@code find} command, or clears the selection if none were found.
+     */
+    private void selectFirstFoundPerson() {
+        if (!logic.getFilteredPersonList().isEmpty()) {
+            personListPanel.getListView().getSelectionModel().clearSelection();
+            personListPanel.getListView().getSelectionModel().selectFirst();
+            Person firstPerson = personListPanel.getListView().getSelectionModel().getSelectedItem();
+            personDetailPanel.setPerson(firstPerson);
+        } else {
+            personListPanel.getListView().getSelectionModel().clearSelection();
+            personDetailPanel.clear();
+        }
+    }
+
+    /**
+     * Updates the parts of the window that follow the filtered person list after it is filtered.
+     */
+    private void updatePersonListViews() {
+        // The renewals table follows the model's renewals list, so it only needs to be shown or cleared here
+        if (logic.getFilteredPersonList().isEmpty()) {
+            renewalsTable.clear();
+            personDetailPanel.clear();
+        } else {
+            renewalsTable.showRenewals();
+        }
+
+        String newLastUpdated = logic.getModel().getAddressBook().getLastUpdatedString();
+        statusBarFooter.updateLastUpdated(newLastUpdated);
+        int newPersonCount = logic.getFilteredPersonList().size();
+        statusBarFooter.updatePersonCount(newPersonCount);
+    }
+
     /**
      * Executes the command and returns the result.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        // The command entered takes over from the searches of the text typed before it
+        liveSearch.cancel();
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -263,15 +346,7 @@ public class MainWindow extends UiPart<Stage> {
             }
 
             if (commandText.startsWith("find")) {
-                if (!logic.getFilteredPersonList().isEmpty()) {
-                    personListPanel.getListView().getSelectionModel().clearSelection();
-                    personListPanel.getListView().getSelectionModel().selectFirst();
-                    Person firstPerson = personListPanel.getListView().getSelectionModel().getSelectedItem();
-                    personDetailPanel.setPerson(firstPerson);
-                } else {
-                    personListPanel.getListView().getSelectionModel().clearSelection();
-                    personDetailPanel.clear();
-                }
+                selectFirstFoundPerson();
             }
 
             if (commandText.startsWith("filter")) {
@@ -306,18 +381,7 @@ public class MainWindow extends UiPart<Stage> {
                 }
             }
 
-            // Update renewals table after each command
-            renewalsTable.updateRenewals(logic.getModel());
-            renewalsTable.getRenewalsTable().refresh();
-            if (logic.getFilteredPersonList().isEmpty()) {
-                renewalsTable.clear();
-                personDetailPanel.clear();
-            }
-
-            String newLastUpdated = logic.getModel().getAddressBook().getLastUpdatedString();
-            statusBarFooter.updateLastUpdated(newLastUpdated);
-            int newPersonCount = logic.getFilteredPersonList().size();
-            statusBarFooter.updatePersonCount(newPersonCount);
+            updatePersonListViews();
 
             return commandResult;
         } catch (CommandException | ParseException e) {
@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
@@ -11,6 +15,7 @@ import seedu.address.model.Model;
 import seedu.address.model.RenewalProcessor;
 import seedu.address.model.RenewalProcessor.RenewalEntry;
 import seedu.address.model.RenewalTableData;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of upcoming policy renewals.
@@ -19,6 +24,11 @@ public class RenewalsTable extends UiPart<VBox> {
 
     private static final String FXML = "RenewalsTable.fxml";
 
+    private final Model model;
+    private final ObservableList<Person> renewals;
+    private final ObservableList<RenewalEntry> entries = FXCollections.observableArrayList();
+    private LocalDate entriesDate;
+
     @FXML
     private TableView<RenewalEntry> renewalsTable;
 
@@ -42,13 +52,18 @@ public class RenewalsTable extends UiPart<VBox> {
 
     /**
      * Creates a new RenewalsTable with the given Model.
+     * The table follows changes to the model's renewals list, converting only the renewals that changed.
+     * The days left are counted from the date the model's renewals list was last updated for.
      *
      * @param model The model containing the person data
      */
     public RenewalsTable(Model model) {
         super(FXML);
+        this.model = model;
+        renewals = model.getRenewalsList();
         setupColumns();
         configureTable();
+        renewals.addListener(this::handleRenewalsChange);
         updateRenewals(model);
     }
 
@@ -76,20 +91,87 @@ public class RenewalsTable extends UiPart<VBox> {
     }
 
     /**
-     * Updates the table with renewal entries from the model.
+     * Rebuilds every renewal entry from the model and shows them in the table.
      *
      * @param model The model containing the updated person data
      */
     public void updateRenewals(Model model) {
-        RenewalTableData tableData = RenewalProcessor.processRenewals(model.getRenewalsList());
-        renewalsTable.setItems(FXCollections.observableArrayList(tableData.getEntries()));
+        LocalDate today = model.getRenewalsDate();
+        RenewalTableData tableData = RenewalProcessor.processRenewals(model.getRenewalsList(), today);
+        entries.setAll(tableData.getEntries());
+        entriesDate = today;
+        renewalsTable.setItems(entries);
     }
 
     /**
-     * Clears the renewals table by setting its items to an empty list.
+     * Shows the current renewal entries in the table.
+     * Entries are rebuilt only if the renewals date has changed since they were built,
+     * as the days left would be stale.
+     */
+    public void showRenewals() {
+        LocalDate today = model.getRenewalsDate();
+        if (!today.equals(entriesDate)) {
+            entries.setAll(toEntries(renewals, today));
+            entriesDate = today;
+        }
+        renewalsTable.setItems(entries);
+    }
+
+    /**
+     * Clears the renewals table by detaching it from the renewal entries.
+     * The entries are still kept up to date, and are shown again by {@link #showRenewals()}.
      */
     public void clear() {
-        renewalsTable.getItems().clear();
+        renewalsTable.setItems(FXCollections.observableArrayList());
+    }
+
+    /**
+     * Applies a change in the model's renewals list to the renewal entries,
+     * converting only the persons that were added or replaced.
+     * If the renewals list was updated for another date, every entry is rebuilt instead.
+     */
+    private void handleRenewalsChange(ListChangeListener.Change<? extends Person> change) {
+        LocalDate today = model.getRenewalsDate();
+        if (!today.equals(entriesDate)) {
+            entries.setAll(toEntries(renewals, today));
+            entriesDate = today;
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                entries.setAll(toEntries(renewals, entriesDate));
+                return;
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    entries.set(i, new RenewalEntry(renewals.get(i), entriesDate));
+                }
+                continue;
+            }
+
+            int from = change.getFrom();
+            List<RenewalEntry> addedEntries = toEntries(change.getAddedSubList(), entriesDate);
+            if (change.getRemovedSize() == 1 && addedEntries.size() == 1) {
+                entries.set(from, addedEntries.get(0));
+                continue;
+            }
+            if (change.wasRemoved()) {
+                entries.remove(from, from + change.getRemovedSize());
+            }
+            if (!addedEntries.isEmpty()) {
+                entries.addAll(from, addedEntries);
+            }
+        }
+    }
+
+    /**
+     * Converts {@code persons} to renewal entries, counting the days left from {@code today}.
+     * Incremental changes use the date the other entries were built on, so that all entries agree.
+     */
+    private static List<RenewalEntry> toEntries(List<? extends Person> persons, LocalDate today) {
+        return persons.stream()
+                .map(person -> new RenewalEntry(person, today))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.Region;
 
 /**
@@ -23,6 +24,9 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label personCountStatus;
 
+    @FXML
+    private ProgressIndicator loadingIndicator;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -47,4 +51,12 @@ public class StatusBarFooter extends UiPart<Region> {
         personCountStatus.setText("Person Count: " + newCount);
     }
 
+    /**
+     * Shows or hides the indicator that the address book is still loading.
+     */
+    public void setLoading(boolean isLoading) {
+        loadingIndicator.setVisible(isLoading);
+        loadingIndicator.setManaged(isLoading);
+    }
+
 }
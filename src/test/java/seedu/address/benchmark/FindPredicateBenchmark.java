@@ -0,0 +1,136 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindCommand.FindPersonsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.FindPersonsPredicateBuilder;
+import seedu.address.testutil.GeneratedPersons;
+
+/**
+ * Compares the compiled {@code FindPersonsPredicate} against the evaluation it replaced, which tested every
+ * field predicate through {@code Optional} and streams and lowercased each field for each keyword.
+ * Every person is first checked to be matched the same by both, then each is timed over several rounds,
+ * along with the memory it allocates per person where the JVM can report it.
+ *
+ * Run with {@code gradlew findPredicateBenchmark}.
+ */
+public class FindPredicateBenchmark {
+
+    private static final int PERSON_COUNT = 200_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static long blackhole;
+
+    /**
+     * Runs the benchmark, printing the time and allocation per person of each way of testing several queries.
+     */
+    public static void main(String[] args) {
+        List<Person> persons = GeneratedPersons.generate(1, PERSON_COUNT);
+
+        run("name", persons, new FindPersonsPredicateBuilder().withNames("yeoh 1a").build());
+        run("name, email", persons, new FindPersonsPredicateBuilder()
+                .withNames("Kumar", "Hui Min").withEmails("mary12@gmail.com").build());
+        run("phone, policy", persons, new FindPersonsPredicateBuilder()
+                .withPhones("8001234").withPolicies("1012345").build());
+        run("all fields", persons, new FindPersonsPredicateBuilder()
+                .withNames("Balakrishnan").withPhones("8009").withEmails("siti@u.nus.edu")
+                .withAddresses("Bedok North").withPolicies("1099").withPolicyTypes("Travel").withTags("vip")
+                .build());
+        System.out.println(blackhole == 42 ? "" : "done");
+    }
+
+    private static void run(String name, List<Person> persons, FindPersonsPredicate predicate) {
+        Predicate<Person> originalPredicate = person -> isMatchByOriginalPredicate(predicate, person);
+        int matchCount = 0;
+        for (Person person : persons) {
+            boolean isMatch = predicate.test(person);
+            if (isMatch != originalPredicate.test(person)) {
+                throw new AssertionError(name + " query differs from the original predicate on: " + person);
+            }
+            matchCount += isMatch ? 1 : 0;
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            time(persons, predicate);
+            time(persons, originalPredicate);
+        }
+        long compiledNanos = 0;
+        long originalNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            compiledNanos += time(persons, predicate);
+            originalNanos += time(persons, originalPredicate);
+        }
+
+        double compiledNanosPerPerson = (double) compiledNanos / MEASURED_ROUNDS / persons.size();
+        double originalNanosPerPerson = (double) originalNanos / MEASURED_ROUNDS / persons.size();
+        System.out.printf("%-14s %,d persons (%,d matches), same results; compiled %.1f ns %s, original %.1f ns %s,"
+                + " %.1fx%n", name, persons.size(), matchCount,
+                compiledNanosPerPerson, bytesPerPerson(persons, predicate),
+                originalNanosPerPerson, bytesPerPerson(persons, originalPredicate),
+                originalNanosPerPerson / compiledNanosPerPerson);
+    }
+
+    private static long time(List<Person> persons, Predicate<Person> predicate) {
+        long start = System.nanoTime();
+        int matchCount = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matchCount++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        blackhole += matchCount;
+        return elapsed;
+    }
+
+    /**
+     * Returns the memory allocated per person while testing {@code persons}, or an empty string if the JVM
+     * cannot report the memory allocated by a thread.
+     */
+    private static String bytesPerPerson(List<Person> persons, Predicate<Person> predicate) {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return "";
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = allocationBean.getThreadAllocatedBytes(threadId);
+        time(persons, predicate);
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return String.format("(%.1f B)", (double) allocated / persons.size());
+    }
+
+    /**
+     * Returns true if {@code person} matches {@code predicate}, evaluated the way {@code FindPersonsPredicate}
+     * and the field predicates did before the query was compiled.
+     */
+    private static boolean isMatchByOriginalPredicate(FindPersonsPredicate predicate, Person person) {
+        boolean nameMatch = predicate.getNamePredicate().map(pred -> pred.getNames().get().stream()
+                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getName().fullName,
+                        keyword.fullName))).orElse(false);
+        boolean phoneMatch = predicate.getPhonePredicate().map(pred -> pred.getNumbers().get().stream()
+                .anyMatch(number -> StringUtil.containsPartialWordIgnoreCase(person.getPhone().value,
+                        number.value))).orElse(false);
+        boolean emailMatch = predicate.getEmailPredicate().map(pred -> pred.getEmails().get().stream()
+                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getEmail().value,
+                        keyword.value))).orElse(false);
+        boolean addressMatch = predicate.getAddressPredicate().map(pred -> pred.getAddresses().get().stream()
+                .anyMatch(keyword -> StringUtil.containsPartialWordIgnoreCase(person.getAddress().value,
+                        keyword.value))).orElse(false);
+        boolean policyMatch = predicate.getPolicyPredicate().map(pred -> pred.getPolicies().get().stream()
+                .anyMatch(number -> StringUtil.containsPartialWordIgnoreCase(person.getPolicy().policyNumber,
+                        number.policyNumber))).orElse(false);
+        boolean policyTypeMatch = predicate.getPolicyTypePredicate().map(pred -> pred.getPolicyTypes().get()
+                .contains(person.getPolicy().getType())).orElse(false);
+        boolean tagMatch = predicate.getTagPredicate().map(pred -> pred.getTags().get().stream()
+                .anyMatch(tag -> person.getTags().stream()
+                        .anyMatch(personTag -> personTag.tagName.equalsIgnoreCase(tag.tagName)))).orElse(false);
+        return nameMatch || phoneMatch || emailMatch || addressMatch || policyMatch || policyTypeMatch || tagMatch;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import seedu.address.logic.commands.FindCommand.FindPersonsPredicate;
+import seedu.address.model.ParallelPersonFilter;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.FindPersonsPredicateBuilder;
+import seedu.address.testutil.GeneratedPersons;
+
+/**
+ * Measures how finding matches over a large book scales with the number of threads testing persons,
+ * from testing them all on one thread up to a fork/join pool with a thread for each available processor.
+ * The query uses fields the trigram index cannot narrow down, so that every person is tested.
+ *
+ * Run with {@code gradlew parallelFindBenchmark}.
+ */
+public class ParallelFindBenchmark {
+
+    private static final int PERSON_COUNT = 500_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static long blackhole;
+
+    /**
+     * Runs the benchmark, printing the time taken to find the matches with each number of threads.
+     */
+    public static void main(String[] args) {
+        List<Person> persons = GeneratedPersons.generate(1, PERSON_COUNT);
+        FindPersonsPredicate predicate = new FindPersonsPredicateBuilder()
+                .withNames("an").withAddresses("#1-1").withTags("vip").build();
+        Set<Person> expectedMatches = ParallelPersonFilter.findMatchesSequentially(persons, predicate);
+
+        double sequentialMillis = time(() -> ParallelPersonFilter.findMatchesSequentially(persons, predicate));
+        System.out.printf("%,d persons, %,d matches%n", persons.size(), expectedMatches.size());
+        System.out.printf("sequential  %7.2f ms%n", sequentialMillis);
+
+        for (int parallelism : getParallelisms()) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                if (!ParallelPersonFilter.findMatches(persons, predicate, pool).equals(expectedMatches)) {
+                    throw new AssertionError("Matches found with " + parallelism + " threads differ");
+                }
+                double millis = time(() -> ParallelPersonFilter.findMatches(persons, predicate, pool));
+                System.out.printf("%2d threads  %7.2f ms, %.1fx%n", parallelism, millis, sequentialMillis / millis);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        System.out.println(blackhole == 42 ? "" : "done");
+    }
+
+    /**
+     * Returns 1, 2, 4 and so on up to the number of available processors, which is always included.
+     */
+    private static List<Integer> getParallelisms() {
+        int processorCount = Runtime.getRuntime().availableProcessors();
+        List<Integer> parallelisms = new ArrayList<>();
+        for (int parallelism = 1; parallelism < processorCount; parallelism *= 2) {
+            parallelisms.add(parallelism);
+        }
+        parallelisms.add(processorCount);
+        return parallelisms;
+    }
+
+    /**
+     * Returns the average time in milliseconds taken by {@code findMatches}, after warming it up.
+     */
+    private static double time(Supplier<Set<Person>> findMatches) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            blackhole += findMatches.get().size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            blackhole += findMatches.get().size();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Policy;
+import seedu.address.model.person.RenewalDate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ValidatorInputs;
+
+/**
+ * Compares the value object validators against the regex checks they replaced, on a million random inputs each.
+ * Every input is first checked to be judged the same by both, then each is timed over several rounds.
+ *
+ * Run with {@code gradlew validatorBenchmark}.
+ */
+public class ValidatorBenchmark {
+
+    private static final int INPUT_COUNT = 1_000_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static long blackhole;
+
+    /**
+     * Runs the benchmark, printing the time per input of each validator and its regex check.
+     */
+    public static void main(String[] args) {
+        run("Name", ValidatorInputs.names(1, INPUT_COUNT), Name::isValidName,
+                test -> test.matches(Name.VALIDATION_REGEX));
+        run("Phone", ValidatorInputs.phones(1, INPUT_COUNT), Phone::isValidPhone,
+                test -> test.matches(Phone.VALIDATION_REGEX));
+        run("Email", ValidatorInputs.emails(1, INPUT_COUNT), Email::isValidEmail,
+                test -> test.matches(Email.VALIDATION_REGEX));
+        run("Address", ValidatorInputs.addresses(1, INPUT_COUNT), Address::isValidAddress,
+                test -> test.matches(Address.VALIDATION_REGEX));
+        run("Policy", ValidatorInputs.policyNumbers(1, INPUT_COUNT), Policy::isValidPolicy,
+                test -> test.matches(Policy.VALIDATION_REGEX));
+        run("Tag", ValidatorInputs.tagNames(1, INPUT_COUNT), Tag::isValidTagName,
+                test -> test.matches(Tag.VALIDATION_REGEX));
+        run("RenewalDate", ValidatorInputs.renewalDates(1, INPUT_COUNT), RenewalDate::isValidRenewalDate,
+                ValidatorInputs::isValidRenewalDateByRegex);
+        System.out.println(blackhole == 42 ? "" : "done");
+    }
+
+    private static void run(String name, List<String> inputs, Predicate<String> validator,
+            Predicate<String> regexCheck) {
+        int validCount = 0;
+        for (String input : inputs) {
+            boolean isValid = validator.test(input);
+            if (isValid != regexCheck.test(input)) {
+                throw new AssertionError(name + " validator differs from its regex check on: " + input);
+            }
+            validCount += isValid ? 1 : 0;
+        }
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            time(inputs, validator);
+            time(inputs, regexCheck);
+        }
+        long validatorNanos = 0;
+        long regexNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            validatorNanos += time(inputs, validator);
+            regexNanos += time(inputs, regexCheck);
+        }
+
+        double validatorNanosPerInput = (double) validatorNanos / MEASURED_ROUNDS / inputs.size();
+        double regexNanosPerInput = (double) regexNanos / MEASURED_ROUNDS / inputs.size();
+        System.out.printf("%-12s %,d inputs (%,d valid), same results; validator %.1f ns, regex %.1f ns, %.1fx%n",
+                name, inputs.size(), validCount, validatorNanosPerInput, regexNanosPerInput,
+                regexNanosPerInput / validatorNanosPerInput);
+    }
+
+    private static long time(List<String> inputs, Predicate<String> check) {
+        long start = System.nanoTime();
+        int validCount = 0;
+        for (String input : inputs) {
+            if (check.test(input)) {
+                validCount++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        blackhole += validCount;
+        return elapsed;
+    }
+}
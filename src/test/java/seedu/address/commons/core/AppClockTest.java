@@ -0,0 +1,41 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AppClockTest {
+
+    @AfterEach
+    public void tearDown() {
+        AppClock.reset();
+    }
+
+    @Test
+    public void setClock_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AppClock.setClock(null));
+    }
+
+    @Test
+    public void setClock_fixedClock_dateAndTimeFromClock() {
+        AppClock.setClock(Clock.fixed(Instant.parse("2030-01-31T23:30:00Z"), ZoneOffset.ofHours(8)));
+        assertEquals(LocalDate.of(2030, 2, 1), AppClock.today());
+        assertEquals(LocalDateTime.of(2030, 2, 1, 7, 30), AppClock.now());
+    }
+
+    @Test
+    public void reset_afterSetClock_systemClockUsed() {
+        Clock fixedClock = Clock.fixed(Instant.parse("2030-01-31T23:30:00Z"), ZoneOffset.UTC);
+        AppClock.setClock(fixedClock);
+        AppClock.reset();
+        assertEquals(Clock.systemDefaultZone(), AppClock.getClock());
+    }
+}
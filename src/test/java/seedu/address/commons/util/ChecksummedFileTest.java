@@ -0,0 +1,148 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChecksummedFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_thenOpen_returnsContentOnly() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.json");
+        writeContent(file, "{\"key\":\"value\"}");
+
+        assertEquals("{\"key\":\"value\"}", readContent(file));
+        assertFalse(Files.exists(file.resolveSibling("file.json.tmp")));
+    }
+
+    @Test
+    public void write_existingFile_keptAsPreviousGeneration() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        writeContent(file, "first");
+        writeContent(file, "second");
+
+        assertEquals("second", readContent(file));
+        assertEquals("first", readContent(ChecksummedFile.getPreviousGenerationPath(file)));
+    }
+
+    @Test
+    public void write_existingFileReplacedAgain_previousGenerationUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        writeContent(file, "first");
+        writeContent(file, "second");
+        writeContent(file, "third");
+
+        // the previous generation shares the old file rather than being renamed from it, so it must not follow it
+        assertEquals("third", readContent(file));
+        assertEquals("second", readContent(ChecksummedFile.getPreviousGenerationPath(file)));
+        assertFalse(Files.exists(file.resolveSibling("file.json.bak.tmp")));
+    }
+
+    @Test
+    public void open_contentChanged_verifyChecksumThrowsIoException() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        writeContent(file, "{\"key\":\"value\"}");
+        Files.writeString(file, Files.readString(file).replace("value", "vague"));
+
+        assertThrows(IOException.class, String.format(ChecksummedFile.CHECKSUM_MISMATCH_MESSAGE, file), () ->
+                readContent(file));
+    }
+
+    @Test
+    public void open_fileWithoutTrailer_readUnverified() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        Files.writeString(file, "{\n  \"key\" : \"value\"\n}\n");
+
+        try (ChecksummedFile.VerifyingInputStream inputStream = ChecksummedFile.open(file)) {
+            assertFalse(inputStream.hasChecksum());
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals("{\n  \"key\" : \"value\"\n}\n", content);
+            inputStream.verifyChecksum();
+        }
+    }
+
+    @Test
+    public void open_verifyBeforeContentRead_readsRestOfContent() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        writeContent(file, "some content that is not read");
+
+        try (ChecksummedFile.VerifyingInputStream inputStream = ChecksummedFile.open(file)) {
+            assertTrue(inputStream.hasChecksum());
+            inputStream.read();
+            inputStream.verifyChecksum();
+        }
+    }
+
+    @Test
+    public void open_readThroughChannel_readsSameContent() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        writeContent(file, "{\"key\":\"value\"}");
+
+        try (ChecksummedFile.VerifyingInputStream inputStream = ChecksummedFile.open(file, true)) {
+            assertTrue(inputStream.hasChecksum());
+            assertEquals('{', inputStream.read());
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals("\"key\":\"value\"}", content);
+            assertEquals(-1, inputStream.read());
+            inputStream.verifyChecksum();
+        }
+    }
+
+    @Test
+    public void open_readThroughChannelContentChanged_verifyChecksumThrowsIoException() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        writeContent(file, "{\"key\":\"value\"}");
+        Files.writeString(file, Files.readString(file).replace("value", "vague"));
+
+        try (ChecksummedFile.VerifyingInputStream inputStream = ChecksummedFile.open(file, true)) {
+            assertThrows(IOException.class, String.format(ChecksummedFile.CHECKSUM_MISMATCH_MESSAGE, file),
+                    inputStream::verifyChecksum);
+        }
+    }
+
+    @Test
+    public void open_largeFile_readThroughChannelAndVerified() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        String content = "x".repeat((int) ChecksummedFile.LARGE_FILE_THRESHOLD);
+        writeContent(file, content);
+
+        assertEquals(content, readContent(file));
+    }
+
+    @Test
+    public void write_straightAfterReadingLargeFile_fileReplaced() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        String content = "x".repeat((int) ChecksummedFile.LARGE_FILE_THRESHOLD);
+        writeContent(file, content);
+        assertEquals(content, readContent(file));
+
+        // nothing of the read may keep the file open, or replacing it fails on Windows
+        writeContent(file, "replaced");
+        assertEquals("replaced", readContent(file));
+        assertEquals(content, readContent(ChecksummedFile.getPreviousGenerationPath(file)));
+    }
+
+    private static void writeContent(Path file, String content) throws IOException {
+        ChecksummedFile.write(file, outputStream -> outputStream.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String readContent(Path file) throws IOException {
+        try (ChecksummedFile.VerifyingInputStream inputStream = ChecksummedFile.open(file)) {
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            inputStream.verifyChecksum();
+            return content;
+        }
+    }
+}
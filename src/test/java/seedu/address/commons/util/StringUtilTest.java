@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -211,6 +213,96 @@ public class StringUtilTest {
         assertFalse(StringUtil.containsPartialWordIgnoreCase("aaa bbb ccc", "xyz")); // No match anywhere
     }
 
+    //---------------- Tests for search keys and search terms --------------------------------------
+
+    @Test
+    public void toSearchTerm_emptySearchTerm_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Search term parameter cannot be empty", ()
+                -> StringUtil.toSearchTerm("  "));
+    }
+
+    @Test
+    public void toSearchTerm_validSearchTerm_trimmedAndLowerCase() {
+        assertEquals("bbb cc", StringUtil.toSearchTerm("  BbB cC "));
+    }
+
+    @Test
+    public void containsAnySearchTerm_validInputs_sameAsContainsPartialWordIgnoreCase() {
+        String sentence = "  AAA   bBb   ccc@1 ";
+        String searchKey = StringUtil.toSearchKey(sentence);
+        String[] searchTerms = {"Bb", " ccc@1", "xyz", "bbb cc", "aaa   bbb"};
+        for (String searchTerm : searchTerms) {
+            assertEquals(StringUtil.containsPartialWordIgnoreCase(sentence, searchTerm),
+                    StringUtil.containsAnySearchTerm(searchKey, new String[] {StringUtil.toSearchTerm(searchTerm)}));
+        }
+
+        assertTrue(StringUtil.containsAnySearchTerm(searchKey, new String[] {"xyz", "bbb"}));
+        assertFalse(StringUtil.containsAnySearchTerm(searchKey, new String[] {"xyz", "bbbb"}));
+        assertFalse(StringUtil.containsAnySearchTerm(searchKey, new String[0]));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(0, StringUtil.getEditDistance("john", "john"));
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(1, StringUtil.getEditDistance("jon", "john")); // insertion
+        assertEquals(1, StringUtil.getEditDistance("johnn", "john")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("joan", "john")); // substitution
+        assertEquals(2, StringUtil.getEditDistance("jonh", "john")); // transposition
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(2, StringUtil.getEditDistance("flaw", "lawn"));
+        assertEquals(1, StringUtil.getEditDistance("tanaka", "tanka"));
+        assertEquals(1, StringUtil.getEditDistance("John", "john")); // case-sensitive
+    }
+
+    //---------------- Tests for getPhoneticKey --------------------------------------
+
+    @Test
+    public void getPhoneticKey_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getPhoneticKey(null));
+    }
+
+    @Test
+    public void getPhoneticKey_noLetters_emptyKey() {
+        assertEquals("", StringUtil.getPhoneticKey(""));
+        assertEquals("", StringUtil.getPhoneticKey("123"));
+    }
+
+    @Test
+    public void getPhoneticKey_soundAlike_sameKey() {
+        assertEquals("2365", StringUtil.getPhoneticKey("catherine"));
+        assertEquals("2365", StringUtil.getPhoneticKey("kathryn")); // same-sounding first letter
+        assertEquals("868", StringUtil.getPhoneticKey("george"));
+        assertEquals("868", StringUtil.getPhoneticKey("jorge")); // soft g
+        assertEquals("753", StringUtil.getPhoneticKey("cindy")); // soft c
+        assertEquals("753", StringUtil.getPhoneticKey("sindy"));
+        assertEquals("553", StringUtil.getPhoneticKey("mohammed")); // vowels and h dropped
+        assertEquals("553", StringUtil.getPhoneticKey("muhammad"));
+        assertEquals("523", StringUtil.getPhoneticKey("knight")); // silent first letter
+        assertEquals("523", StringUtil.getPhoneticKey("night"));
+        assertEquals("065", StringUtil.getPhoneticKey("aaron")); // leading vowel
+        assertEquals("065", StringUtil.getPhoneticKey("erin"));
+        assertEquals("1426", StringUtil.getPhoneticKey("balakrishnan")); // only the first codes kept
+        assertEquals("1426", StringUtil.getPhoneticKey("balakrishnen"));
+        assertEquals("53", StringUtil.getPhoneticKey("2nd")); // digits ignored
+    }
+
+    @Test
+    public void getPhoneticKey_soundDifferent_differentKeys() {
+        assertNotEquals(StringUtil.getPhoneticKey("john"), StringUtil.getPhoneticKey("sean"));
+        assertNotEquals(StringUtil.getPhoneticKey("alice"), StringUtil.getPhoneticKey("elle"));
+        assertNotEquals(StringUtil.getPhoneticKey("kurz"), StringUtil.getPhoneticKey("kunz"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -228,4 +320,32 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for isAsciiAlphanumeric and isAsciiDigits --------------------------------------
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertTrue(StringUtil.isAsciiAlphanumeric('a'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('Z'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('0'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('_'));
+        assertFalse(StringUtil.isAsciiAlphanumeric(' '));
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00e9')); // non-ASCII letter
+    }
+
+    @Test
+    public void isAsciiDigits() {
+        // null
+        assertThrows(NullPointerException.class, () -> StringUtil.isAsciiDigits(null));
+
+        // invalid
+        assertFalse(StringUtil.isAsciiDigits(""));
+        assertFalse(StringUtil.isAsciiDigits("12a"));
+        assertFalse(StringUtil.isAsciiDigits("-1"));
+        assertFalse(StringUtil.isAsciiDigits("\u0661")); // non-ASCII digit
+
+        // valid
+        assertTrue(StringUtil.isAsciiDigits("0"));
+        assertTrue(StringUtil.isAsciiDigits("0012345678901234567890")); // leading zeros, longer than a long
+    }
+
 }
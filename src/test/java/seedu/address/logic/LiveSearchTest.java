@@ -0,0 +1,161 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final TaskQueue searchExecutor = new TaskQueue();
+    private final TaskQueue modelExecutor = new TaskQueue();
+    private final List<CommandResult> results = new ArrayList<>();
+    private Model model;
+    private LiveSearch liveSearch;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        liveSearch = new LiveSearch(createLogic(model), searchExecutor, modelExecutor);
+    }
+
+    @Test
+    public void isSearchCommand() {
+        assertTrue(LiveSearch.isSearchCommand("find"));
+        assertTrue(LiveSearch.isSearchCommand("  find n/alice"));
+        assertFalse(LiveSearch.isSearchCommand("finder"));
+        assertFalse(LiveSearch.isSearchCommand("list"));
+        assertFalse(LiveSearch.isSearchCommand(""));
+    }
+
+    @Test
+    public void search_findCommand_showsMatches() {
+        assertTrue(liveSearch.search("find n/meier", results::add));
+        // nothing is shown until the persons have been tested
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+
+        runAll();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(List.of(new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2))),
+                results);
+    }
+
+    @Test
+    public void search_supersededSearch_notShown() {
+        liveSearch.search("find n/alice", results::add);
+        liveSearch.search("find n/meier", results::add);
+        runAll();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    public void search_notValidFindCommand_cancelsEarlierSearches() {
+        liveSearch.search("find n/alice", results::add);
+        assertFalse(liveSearch.search("find", results::add));
+        assertFalse(liveSearch.search("list", results::add));
+        runAll();
+        assertTrue(results.isEmpty());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void search_addressBookLoading_notStarted() {
+        model = new ModelManager();
+        Logic logic = createLogic(model);
+        liveSearch = new LiveSearch(logic, searchExecutor, modelExecutor);
+        // the loaded persons are never added, so the address book stays loading
+        logic.loadAddressBook(listener -> Optional.of(getTypicalAddressBook()), task -> {});
+
+        assertFalse(liveSearch.search("find n/meier", results::add));
+        runAll();
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void cancel_searchInProgress_notShown() {
+        liveSearch.search("find n/alice", results::add);
+        searchExecutor.runAll();
+        liveSearch.cancel();
+        modelExecutor.runAll();
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void search_addressBookChangedWhileSearching_searchesAgain() {
+        liveSearch.search("find n/meier", results::add);
+        searchExecutor.runAll();
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        model.setPerson(ALICE, aliceMeier);
+
+        modelExecutor.runAll();
+        assertTrue(results.isEmpty());
+        runAll();
+        assertEquals(List.of(aliceMeier, BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(1, results.size());
+    }
+
+    private Logic createLogic(Model model) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    private void runAll() {
+        while (!searchExecutor.isEmpty() || !modelExecutor.isEmpty()) {
+            searchExecutor.runAll();
+            modelExecutor.runAll();
+        }
+    }
+
+    /**
+     * An executor that holds its tasks until they are run by the test.
+     */
+    private static class TaskQueue implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        boolean isEmpty() {
+            return tasks.isEmpty();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove().run();
+            }
+        }
+    }
+}
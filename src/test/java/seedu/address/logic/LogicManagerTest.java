@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -14,26 +16,43 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -85,6 +104,198 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // list does not change the address book, so the failing save is never attempted
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_mutatingCommand_savesAddressBook() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POLICY_DESC_AMY + NOTE_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(0, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_errorReportedAndSaveRetried() throws Exception {
+        List<ReadOnlyAddressBook> saveAttempts = new ArrayList<>();
+        JsonAddressBookStorage failingStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveAttempts.add(addressBook);
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+                };
+        WriteBehindAddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(failingStorage);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        List<String> reportedErrors = new ArrayList<>();
+        logic.setSaveErrorHandler(reportedErrors::add);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POLICY_DESC_AMY + NOTE_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(IOException.class, addressBookStorage::flushAddressBook);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                reportedErrors);
+
+        // the unsaved change is saved again after the next command, even if it is read-only
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(IOException.class, addressBookStorage::flushAddressBook);
+        assertEquals(2, saveAttempts.size());
+    }
+
+    @Test
+    public void loadAddressBook_manyPersons_addedInBatchesAndCommandsRejectedUntilLoaded() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2500; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withPolicy(String.valueOf(100000 + i)).build());
+        }
+        addressBook.setLastUpdated(LocalDateTime.of(2024, 1, 1, 12, 0));
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        List<Integer> loadedPersonCounts = new ArrayList<>();
+        logic.setLoadedHandler(() -> loadedPersonCounts.add(model.getAddressBook().getPersonList().size()));
+
+        logic.loadAddressBook(listener -> Optional.of(addressBook), modelTasks::add);
+        assertTrue(logic.isLoading());
+        assertCommandException(ListCommand.COMMAND_WORD, LogicManager.MESSAGE_LOADING);
+
+        List<Integer> batchPersonCounts = new ArrayList<>();
+        while (logic.isLoading()) {
+            modelTasks.take().run();
+            batchPersonCounts.add(model.getAddressBook().getPersonList().size());
+        }
+
+        assertEquals(List.of(1000, 2000, 2500, 2500), batchPersonCounts);
+        assertEquals(List.of(2500), loadedPersonCounts);
+        assertEquals(addressBook.getPersonList(), model.getAddressBook().getPersonList());
+        assertEquals(addressBook.getLastUpdated(), model.getAddressBook().getLastUpdated());
+
+        // the loaded address book is already in storage, so it is not saved again
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void loadAddressBook_personsHandedOverWhileReading_shownBeforeReadingEnds() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withPolicy(String.valueOf(100000 + i)).build());
+        }
+        // the last persons read are changed once reading ends, as by a replayed journal
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons.subList(0, 1000));
+        addressBook.addPerson(AMY);
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        CountDownLatch personsShown = new CountDownLatch(1);
+
+        logic.loadAddressBook(listener -> {
+            listener.personsRead(0, persons.subList(0, 1500));
+            listener.personsRead(1500, persons.subList(1500, 2000));
+            try {
+                personsShown.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return Optional.of(addressBook);
+        }, modelTasks::add);
+
+        while (model.getAddressBook().getPersonList().size() < 2000) {
+            modelTasks.take().run();
+        }
+        assertEquals(persons, model.getAddressBook().getPersonList());
+        assertTrue(logic.isLoading());
+
+        personsShown.countDown();
+        while (logic.isLoading()) {
+            modelTasks.take().run();
+        }
+        assertEquals(addressBook.getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void loadAddressBook_readingFailsAfterPersonsShown_modelEmptied() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic.loadAddressBook(listener -> {
+            listener.personsRead(0, List.of(AMY));
+            throw new DataLoadingException(new IOException("dummy loading failure"));
+        }, modelTasks::add);
+
+        while (logic.isLoading()) {
+            modelTasks.take().run();
+        }
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertTrue(logic.getLoadingErrorMessage().isPresent());
+    }
+
+    @Test
+    public void loadAddressBook_noAddressBook_sampleDataSavedAfterNextCommand() throws Exception {
+        // the sample renewal dates must be in the future
+        AppClock.setClock(Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC));
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        try {
+            logic.loadAddressBook(listener -> Optional.empty(), modelTasks::add);
+            while (logic.isLoading()) {
+                modelTasks.take().run();
+            }
+            assertEquals(SampleDataUtil.getSampleAddressBook().getPersonList(),
+                    model.getAddressBook().getPersonList());
+        } finally {
+            AppClock.reset();
+        }
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        // the sample data is not in storage yet, so even a read-only command saves it
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertEquals(0, logic.getSkippedSaveCount());
+    }
+
+    @Test
+    public void loadAddressBook_loadingFails_savingDisabledUntilCleared() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        logic.loadAddressBook(listener -> {
+            throw new DataLoadingException(new IOException("dummy loading failure"));
+        }, modelTasks::add);
+
+        while (logic.isLoading()) {
+            modelTasks.take().run();
+        }
+
+        assertEquals(String.format(LogicManager.MESSAGE_LOADING_FAILED, model.getAddressBookFilePath()),
+                logic.getLoadingErrorMessage().get());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, new ModelManager());
+
+        // the data file that could not be loaded is not overwritten by changes to the empty address book
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POLICY_DESC_AMY + NOTE_DESC_AMY;
+        assertThrows(CommandException.class, LogicManager.MESSAGE_SAVING_DISABLED, () -> logic.execute(addCommand));
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        // clearing the address book starts saving again
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertTrue(logic.getLoadingErrorMessage().isEmpty());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -9,9 +9,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -138,6 +142,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setLoadedPersons(int fromIndex, List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoadedLastUpdated(LocalDateTime lastUpdated) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -153,6 +167,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> findByPolicyNumber(String policyNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findSamePersons(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -173,6 +202,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matches) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getSearchCandidates(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedPersonList(Comparator<Person> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -183,11 +222,21 @@ public class AddCommandTest {
             return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList());
         }
 
+        @Override
+        public LocalDate getRenewalsDate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateRenewalsList(Predicate<Person> predicate) {
             // do nothing
         }
 
+        @Override
+        public void updateRenewalsList(LocalDate startDate, LocalDate endDate, LocalDate today) {
+            // do nothing
+        }
+
         @Override
         public void updateSortedRenewalsList(Comparator<Person> comparator) {
             // do nothing
@@ -213,6 +262,12 @@ public class AddCommandTest {
             return this.person.isSamePerson(person);
         }
 
+        @Override
+        public List<Person> findSamePersons(Person person) {
+            requireNonNull(person);
+            return this.person.isSamePerson(person) ? List.of(this.person) : List.of();
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             ObservableList<Person> list = FXCollections.observableArrayList();
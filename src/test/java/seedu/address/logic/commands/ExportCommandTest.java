@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null));
+    }
+
+    @Test
+    public void execute_typicalAddressBook_writesPlainJson() throws Exception {
+        Path filePath = testFolder.resolve("exports").resolve("clients.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS,
+                model.getAddressBook().getPersonList().size(), filePath);
+
+        assertCommandSuccess(new ExportCommand(filePath), model, expectedMessage, expectedModel);
+        String content = Files.readString(filePath);
+        assertFalse(content.contains("#crc32"));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(JsonAddressBookStorage.importAddressBook(filePath)));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("a.json"));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("a.json"))));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("b.json"))));
+    }
+}
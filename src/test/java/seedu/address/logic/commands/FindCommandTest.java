@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -15,13 +16,17 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand.FindPersonsPredicate;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.FindPersonsPredicateBuilder;
 
 /**
@@ -84,6 +89,26 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyName_closerMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withFuzzyNames("meyer").build();
+        FindCommand command = new FindCommand(predicate, FindCommand.SORT_BY_NAME);
+        CommandResult result = command.execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneticName_soundAlikeNamesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withPhoneticNames("Mayer").build();
+        FindCommand command = new FindCommand(predicate, FindCommand.SORT_BY_NAME);
+        CommandResult result = command.execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_sortByTag_sortsCorrectly() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
@@ -95,6 +120,58 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, ALICE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void findPersonsPredicate_getCandidates() {
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // indexed fields -> candidates include every match
+        FindPersonsPredicate predicate = new FindPersonsPredicateBuilder()
+                .withNames("Kunz").withPhones("9535").build();
+        Set<Person> candidates = addressBook.findCandidates(predicate).get();
+        assertTrue(candidates.containsAll(List.of(CARL, FIONA)));
+
+        // search term too short for the index -> no candidates
+        predicate = new FindPersonsPredicateBuilder().withNames("Kunz", "Al").build();
+        assertEquals(Optional.empty(), addressBook.findCandidates(predicate));
+
+        // tag not indexed -> no candidates
+        predicate = new FindPersonsPredicateBuilder().withNames("Kunz").withTags("friends").build();
+        assertEquals(Optional.empty(), addressBook.findCandidates(predicate));
+    }
+
+    @Test
+    public void findPersonsPredicate_test_matchesIfAnyPredicateMatches() {
+        List<FindPersonsPredicate> predicates = List.of(
+                new FindPersonsPredicateBuilder().withNames("kunz", "Meier").build(),
+                new FindPersonsPredicateBuilder().withPhones("9535").withEmails("lydia@example.com").build(),
+                new FindPersonsPredicateBuilder().withAddresses("street").withPolicies("2334").build(),
+                new FindPersonsPredicateBuilder().withPolicyTypes("Life").withNames("Carl").build(),
+                new FindPersonsPredicateBuilder().withTags("FRIENDS").withPolicies("877665").build(),
+                new FindPersonsPredicateBuilder().withNames("xyz").withTags("owesMoney").build());
+        for (FindPersonsPredicate predicate : predicates) {
+            for (Person person : getTypicalAddressBook().getPersonList()) {
+                boolean isAnyMatch = predicate.getNamePredicate().map(p -> p.test(person)).orElse(false)
+                        || predicate.getPhonePredicate().map(p -> p.test(person)).orElse(false)
+                        || predicate.getEmailPredicate().map(p -> p.test(person)).orElse(false)
+                        || predicate.getAddressPredicate().map(p -> p.test(person)).orElse(false)
+                        || predicate.getPolicyPredicate().map(p -> p.test(person)).orElse(false)
+                        || predicate.getPolicyTypePredicate().map(p -> p.test(person)).orElse(false)
+                        || predicate.getTagPredicate().map(p -> p.test(person)).orElse(false);
+                assertEquals(isAnyMatch, predicate.test(person), predicate + " on " + person);
+            }
+        }
+    }
+
+    @Test
+    public void findPersonsPredicate_predicateSetAfterTest_testsNewPredicate() {
+        FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withNames("Kunz").build();
+        assertFalse(predicate.test(ALICE));
+
+        FindPersonsPredicate alicePredicate = new FindPersonsPredicateBuilder().withNames("Alice").build();
+        predicate.setNamePredicate(alicePredicate.getNamePredicate().get());
+        assertTrue(predicate.test(ALICE));
+    }
+
     @Test
     public void equals() {
         FindPersonsPredicate firstPredicate =
@@ -227,6 +227,8 @@ public class FindPersonsPredicateTest {
     public void copy_constructor_equalPredicates() {
         FindCommand.FindPersonsPredicate original = new FindPersonsPredicateBuilder()
                 .withNames("Alice")
+                .withFuzzyNames("Alcie")
+                .withPhoneticNames("Alyssa")
                 .withPhones("12345678")
                 .withEmails("alice@test.com")
                 .withAddresses("123, Wonderland Ave 1")
@@ -316,6 +318,8 @@ public class FindPersonsPredicateTest {
         FindCommand.FindPersonsPredicate emptyPredicate = new FindCommand.FindPersonsPredicate();
         String expected = FindCommand.FindPersonsPredicate.class.getCanonicalName()
                 + "{namePredicate=" + null
+                + ", fuzzyNamePredicate=" + null
+                + ", phoneticNamePredicate=" + null
                 + ", phonePredicate=" + null
                 + ", emailPredicate=" + null
                 + ", addressPredicate=" + null
@@ -326,6 +330,8 @@ public class FindPersonsPredicateTest {
 
         FindCommand.FindPersonsPredicate fullPredicate = new FindPersonsPredicateBuilder()
                 .withNames("Alice")
+                .withFuzzyNames("Alcie")
+                .withPhoneticNames("Alyssa")
                 .withPhones("12345678")
                 .withEmails("alice@test.com")
                 .withAddresses("123, Wonderland Ave 1")
@@ -335,6 +341,8 @@ public class FindPersonsPredicateTest {
                 .build();
         String fullExpected = FindCommand.FindPersonsPredicate.class.getCanonicalName()
                 + "{namePredicate=" + fullPredicate.getNamePredicate().get()
+                + ", fuzzyNamePredicate=" + fullPredicate.getFuzzyNamePredicate().get()
+                + ", phoneticNamePredicate=" + fullPredicate.getPhoneticNamePredicate().get()
                 + ", phonePredicate=" + fullPredicate.getPhonePredicate().get()
                 + ", emailPredicate=" + fullPredicate.getEmailPredicate().get()
                 + ", addressPredicate=" + fullPredicate.getAddressPredicate().get()
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_exportedFile_addsPersonsNotInAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("clients.json");
+        AddressBook exported = new AddressBook();
+        exported.setPersons(List.of(ALICE, HOON, IDA));
+        JsonAddressBookStorage.exportAddressBook(exported, filePath);
+
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath, 1);
+
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.json");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_FAILED, filePath,
+                "java.nio.file.NoSuchFileException: " + filePath);
+
+        assertCommandFailure(new ImportCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.json"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.json"))));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file path -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.json"))));
+    }
+}
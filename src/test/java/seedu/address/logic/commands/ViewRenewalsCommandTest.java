@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.person.Person;
@@ -183,4 +187,25 @@ public class ViewRenewalsCommandTest {
         ViewRenewalsCommand commandWithDifferentSort = new ViewRenewalsCommand(30, ViewRenewalsCommand.SORT_BY_NAME);
         assertFalse(standardCommand.equals(commandWithDifferentSort));
     }
+
+    @Test
+    public void execute_fixedClock_renewalsCountedFromClockDate() {
+        Person renewingInWindow = new PersonBuilder().withName("Dana").withPhone("91234567")
+                .withPolicy("24680", "31-01-2030").build();
+        Person renewingAfterWindow = new PersonBuilder().withName("Evan").withPhone("97654321")
+                .withPolicy("13579", "01-02-2030").build();
+        model.addPerson(renewingInWindow);
+        model.addPerson(renewingAfterWindow);
+
+        AppClock.setClock(Clock.fixed(Instant.parse("2030-01-01T10:00:00Z"), ZoneOffset.UTC));
+        try {
+            CommandResult result = new ViewRenewalsCommand(30, ViewRenewalsCommand.SORT_BY_DATE).execute(model);
+
+            assertEquals(String.format(ViewRenewalsCommand.MESSAGE_SUCCESS + " between %s and %s", 1,
+                    "01-01-2030", "31-01-2030"), result.getFeedbackToUser());
+            assertEquals(List.of(renewingInWindow), model.getRenewalsList());
+        } finally {
+            AppClock.reset();
+        }
+    }
 }
@@ -3,10 +3,16 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FilterDateCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,6 +21,17 @@ public class FilterDateCommandParserTest {
 
     private final FilterDateCommandParser parser = new FilterDateCommandParser();
 
+    @BeforeEach
+    public void setUp() {
+        // the dates in these tests are relative to 1 March 2025
+        AppClock.setClock(Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        AppClock.reset();
+    }
+
     @Test
     public void parse_validArgs_returnsFilterDateCommand() throws Exception {
         String userInput = " sd/01-03-2025 ed/31-03-2025 s/name";
@@ -32,6 +32,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_POLICY_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_POLICY_TYPE_LIFE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_ORDER;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -159,6 +160,39 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_fuzzyName_success() {
+        FindCommand.FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withNames(VALID_NAME_AMY)
+                .withFuzzyNames("jonh").build();
+        FindCommand expectedCommand = new FindCommand(predicate, FindCommand.DEFAULT_SORT);
+        assertParseSuccess(parser, NAME_DESC_AMY + " " + PREFIX_NAME + " ~jonh", expectedCommand);
+
+        predicate = new FindPersonsPredicateBuilder().withFuzzyNames("jonh", "Amy").build();
+        expectedCommand = new FindCommand(predicate, FindCommand.DEFAULT_SORT);
+        assertParseSuccess(parser, " " + PREFIX_NAME + "~jonh " + PREFIX_NAME + "~Amy", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidFuzzyName_failure() {
+        assertParseFailure(parser, " " + PREFIX_NAME + "~", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_NAME + "~~jonh", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_phoneticName_success() {
+        FindCommand.FindPersonsPredicate predicate = new FindPersonsPredicateBuilder().withNames(VALID_NAME_AMY)
+                .withFuzzyNames("jonh").withPhoneticNames("kathryn").build();
+        FindCommand expectedCommand = new FindCommand(predicate, FindCommand.DEFAULT_SORT);
+        assertParseSuccess(parser, NAME_DESC_AMY + " " + PREFIX_NAME + "~jonh " + PREFIX_NAME + " ?kathryn",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidPhoneticName_failure() {
+        assertParseFailure(parser, " " + PREFIX_NAME + "?", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_NAME + "?~jonh", Name.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_multipleRepeatedFields_success() {
         // multiple valid fields repeated
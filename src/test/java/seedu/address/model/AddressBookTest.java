@@ -7,8 +7,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BASE_DATE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
@@ -21,6 +25,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.logic.parser.DateTimeParser;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RenewalDate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -91,6 +96,35 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    @Test
+    public void getPersonsRenewingBetween_dateRange_returnsPersonsInRenewalDateOrder() {
+        addressBook.addPerson(CARL);
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL),
+                addressBook.getPersonsRenewingBetween(BASE_DATE, BASE_DATE.plusDays(10)));
+        assertEquals(Arrays.asList(BENSON),
+                addressBook.getPersonsRenewingBetween(BASE_DATE.plusDays(1), BASE_DATE.plusDays(9)));
+        assertEquals(Collections.emptyList(),
+                addressBook.getPersonsRenewingBetween(BASE_DATE.plusDays(10), BASE_DATE));
+    }
+
+    @Test
+    public void getPersonsRenewingBetween_afterSetAndRemovePerson_reflectsChanges() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        LocalDate newRenewalDate = BASE_DATE.plusDays(30);
+        Person renewedAlice = new PersonBuilder(ALICE)
+                .withRenewalDate(newRenewalDate.format(RenewalDate.DATE_FORMATTER)).build();
+        addressBook.setPerson(ALICE, renewedAlice);
+        addressBook.removePerson(BENSON);
+
+        assertEquals(Collections.emptyList(),
+                addressBook.getPersonsRenewingBetween(BASE_DATE, BASE_DATE.plusDays(10)));
+        assertEquals(Arrays.asList(renewedAlice),
+                addressBook.getPersonsRenewingBetween(newRenewalDate, newRenewalDate));
+    }
+
     @Test
     public void setAndGetLastUpdated_validValue_success() {
         LocalDateTime fixedTime = LocalDateTime.of(2025, 3, 13, 12, 0);
@@ -2,12 +2,15 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,6 +18,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -95,6 +100,268 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void setLoadedPersons_persons_addedWithLoadedLastUpdated() {
+        LocalDateTime lastUpdated = LocalDateTime.of(2024, 1, 1, 12, 0);
+        long version = modelManager.getAddressBookVersion();
+        modelManager.setLoadedPersons(0, List.of(ALICE, BENSON));
+        modelManager.setLoadedLastUpdated(lastUpdated);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(lastUpdated, modelManager.getAddressBook().getLastUpdated());
+        assertNotEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void setLoadedPersons_fromEarlierIndex_laterPersonsReplaced() {
+        modelManager.setLoadedPersons(0, List.of(ALICE, BENSON, CARL));
+        modelManager.setLoadedPersons(1, List.of(DANIEL));
+        assertEquals(List.of(ALICE, DANIEL), modelManager.getFilteredPersonList());
+
+        // reading again from the start
+        modelManager.setLoadedPersons(0, List.of());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void findByPolicyNumber_policyNumberInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(BENSON), modelManager.findByPolicyNumber(BENSON.getPolicy().getPolicyNumber()));
+    }
+
+    @Test
+    public void findByPolicyNumber_policyNumberNotInAddressBook_returnsEmptyList() {
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.findByPolicyNumber(BENSON.getPolicy().getPolicyNumber()).isEmpty());
+    }
+
+    @Test
+    public void findByPolicyNumber_afterSetPerson_returnsEditedPerson() {
+        modelManager.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPolicy("424242").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertTrue(modelManager.findByPolicyNumber(ALICE.getPolicy().getPolicyNumber()).isEmpty());
+        assertEquals(List.of(editedAlice), modelManager.findByPolicyNumber("424242"));
+    }
+
+    @Test
+    public void findSamePersons_personWithSameNameAndEmail_returnsExistingPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person aliceWithNewPolicy = new PersonBuilder(ALICE).withPolicy("424242").build();
+        assertEquals(List.of(ALICE), modelManager.findSamePersons(aliceWithNewPolicy));
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_filtersToMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withNames("MEIER").build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withAddresses("ave").build());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_editedPersonsTestedAgainstPredicate() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withNames("meier").build());
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Lim").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_parallelThresholdReached_filtersToMatches() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFindThreshold(1);
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                userPrefs);
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withTags("owesMoney").build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedOnUnchangedData_answeredFromCache() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withNames("meier").build());
+        assertEquals(0, modelManager.getQueryCacheHitCount());
+        assertEquals(1, modelManager.getQueryCacheMissCount());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withNames("meier").build());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+
+        // a change to the address book is not answered from the results found before it
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.updateFilteredPersonList(new FindPersonsPredicateBuilder().withNames("meier").build());
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+        assertEquals(2, modelManager.getQueryCacheMissCount());
+    }
+
+    @Test
+    public void updateRenewalsList_repeatedOnUnchangedData_answeredFromCache() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        LocalDate startDate = ALICE.getRenewalDateValue();
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), startDate);
+        List<Person> renewals = List.copyOf(modelManager.getRenewalsList());
+        modelManager.updateSortedRenewalsList(Comparator.comparing(person -> person.getName().fullName));
+
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), startDate);
+        assertEquals(renewals, modelManager.getRenewalsList());
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+
+        modelManager.deletePerson(ALICE);
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), startDate);
+        assertFalse(modelManager.getRenewalsList().contains(ALICE));
+        assertEquals(2, modelManager.getQueryCacheMissCount());
+    }
+
+    @Test
+    public void getSearchCandidates_snapshotOfCandidates() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        List<Person> candidates = modelManager.getSearchCandidates(
+                new FindPersonsPredicateBuilder().withNames("meier").build());
+        assertEquals(List.of(BENSON), candidates);
+
+        List<Person> allPersons = modelManager.getSearchCandidates(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(ALICE, BENSON), allPersons);
+    }
+
+    @Test
+    public void updateFilteredPersonList_knownMatches_filtersToMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Predicate<Person> predicate = new FindPersonsPredicateBuilder().withNames("meier").build();
+        modelManager.updateFilteredPersonList(predicate, Set.of(BENSON));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // persons added afterwards are tested against the predicate
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(predicate, Set.of(BENSON, DANIEL));
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateRenewalsList_dateRange_keepsRenewalDateOrderAfterSetPerson() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        LocalDate startDate = ALICE.getRenewalDateValue();
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), startDate);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getRenewalsList());
+
+        Person renewedAlice = new PersonBuilder(ALICE)
+                .withRenewalDate(startDate.plusDays(20).format(RenewalDate.DATE_FORMATTER)).build();
+        modelManager.setPerson(ALICE, renewedAlice);
+        assertEquals(List.of(BENSON, renewedAlice), modelManager.getRenewalsList());
+    }
+
+    @Test
+    public void updateRenewalsList_dateRange_followsAddAndDeletePerson() {
+        LocalDate startDate = ALICE.getRenewalDateValue();
+        modelManager.addPerson(BENSON);
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), startDate);
+        assertEquals(List.of(BENSON), modelManager.getRenewalsList());
+
+        // added person renewing earlier goes in front
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getRenewalsList());
+
+        // added person renewing outside the range is left out
+        Person renewingLater = new PersonBuilder().withName("Later Person")
+                .withPolicy("777777", startDate.plusDays(31).format(RenewalDate.DATE_FORMATTER)).build();
+        modelManager.addPerson(renewingLater);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getRenewalsList());
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(BENSON), modelManager.getRenewalsList());
+    }
+
+    @Test
+    public void updateRenewalsList_dateRange_setPersonOutOfRange_removesPerson() {
+        LocalDate startDate = ALICE.getRenewalDateValue();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), startDate);
+
+        Person lapsedAlice = new PersonBuilder(ALICE)
+                .withRenewalDate(startDate.plusDays(60).format(RenewalDate.DATE_FORMATTER)).build();
+        modelManager.setPerson(ALICE, lapsedAlice);
+        assertEquals(List.of(BENSON), modelManager.getRenewalsList());
+
+        // moving back into the range puts the person back in order
+        modelManager.setPerson(lapsedAlice, ALICE);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getRenewalsList());
+    }
+
+    @Test
+    public void updateRenewalsList_dateRange_renewalsDateIsGivenDate() {
+        LocalDate startDate = ALICE.getRenewalDateValue();
+        LocalDate today = startDate.minusDays(5);
+        modelManager.addPerson(ALICE);
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), today);
+        assertEquals(today, modelManager.getRenewalsDate());
+
+        // the same range updated for another date
+        modelManager.updateRenewalsList(startDate, startDate.plusDays(30), startDate);
+        assertEquals(startDate, modelManager.getRenewalsDate());
+    }
+
+    @Test
+    public void updateRenewalsList_sortedByName_addPersonKeepsNameOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.updateRenewalsList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateSortedRenewalsList(Comparator.comparing(person -> person.getName().fullName));
+
+        Person carl = new PersonBuilder().withName("Carl Kurz").withPolicy("888888").build();
+        modelManager.addPerson(carl);
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(ALICE, BENSON, carl), modelManager.getRenewalsList());
+    }
+
+    @Test
+    public void getAddressBookVersion_changesOnlyOnMutation() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateRenewalsList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(version, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        assertNotEquals(version, modelManager.getAddressBookVersion());
+
+        version = modelManager.getAddressBookVersion();
+        modelManager.setPerson(ALICE, BENSON);
+        assertNotEquals(version, modelManager.getAddressBookVersion());
+
+        version = modelManager.getAddressBookVersion();
+        modelManager.deletePerson(BENSON);
+        assertNotEquals(version, modelManager.getAddressBookVersion());
+
+        version = modelManager.getAddressBookVersion();
+        modelManager.setAddressBook(new AddressBook());
+        assertNotEquals(version, modelManager.getAddressBookVersion());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindCommand.FindPersonsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.FindPersonsPredicateBuilder;
+import seedu.address.testutil.GeneratedPersons;
+
+public class ParallelPersonFilterTest {
+
+    private static final List<Person> PERSONS = GeneratedPersons.generate(1, 10 * ParallelPersonFilter.MIN_CHUNK_SIZE);
+
+    @Test
+    public void findMatches_manyPersons_sameAsSequential() {
+        FindPersonsPredicate predicate = new FindPersonsPredicateBuilder()
+                .withNames("Kumar").withTags("vip").withPolicyTypes("Travel").build();
+        Set<Person> expectedMatches = ParallelPersonFilter.findMatchesSequentially(PERSONS, predicate);
+        assertTrue(expectedMatches.size() > 0);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expectedMatches, ParallelPersonFilter.findMatches(PERSONS, predicate, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expectedMatches, ParallelPersonFilter.findMatches(PERSONS, predicate, 1));
+    }
+
+    @Test
+    public void findMatches_belowThreshold_testedOnCallingThread() {
+        Thread callingThread = Thread.currentThread();
+        Predicate<Person> predicate = person -> {
+            assertEquals(callingThread, Thread.currentThread());
+            return person.equals(BENSON);
+        };
+        assertEquals(Set.of(BENSON), ParallelPersonFilter.findMatches(List.of(ALICE, BENSON), predicate, 3));
+    }
+
+    @Test
+    public void findMatches_cancelled_stopsTesting() {
+        AtomicInteger testedCount = new AtomicInteger();
+        Predicate<Person> predicate = person -> testedCount.incrementAndGet() > 0;
+        Set<Person> matches = ParallelPersonFilter.findMatches(PERSONS, predicate, Integer.MAX_VALUE,
+                () -> testedCount.get() >= ParallelPersonFilter.MIN_CHUNK_SIZE);
+        assertEquals(ParallelPersonFilter.MIN_CHUNK_SIZE, testedCount.get());
+        assertEquals(ParallelPersonFilter.MIN_CHUNK_SIZE, matches.size());
+
+        testedCount.set(0);
+        assertTrue(ParallelPersonFilter.findMatches(PERSONS, predicate, 1, () -> true).isEmpty());
+        assertEquals(0, testedCount.get());
+    }
+
+    @Test
+    public void findMatches_noPersons_returnsEmptySet() {
+        assertTrue(ParallelPersonFilter.findMatches(List.of(), person -> true, ForkJoinPool.commonPool()).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class QueryCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 15);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache<String, String>(0));
+    }
+
+    @Test
+    public void get_sameVersionAndDate_returnsCachedResult() {
+        QueryCache<String, String> cache = new QueryCache<>(2);
+        assertEquals(Optional.empty(), cache.get("alice", 1, DATE));
+        cache.put("alice", 1, DATE, "result");
+        assertEquals(Optional.of("result"), cache.get("alice", 1, DATE));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_otherVersionOrDate_dropsResults() {
+        QueryCache<String, String> cache = new QueryCache<>(2);
+        cache.put("alice", 1, DATE, "result");
+        assertEquals(Optional.empty(), cache.get("alice", 2, DATE));
+        assertEquals(0, cache.size());
+
+        cache.put("alice", 2, DATE, "result");
+        assertEquals(Optional.empty(), cache.get("alice", 2, DATE.plusDays(1)));
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        QueryCache<String, String> cache = new QueryCache<>(2);
+        cache.put("alice", 1, DATE, "a");
+        cache.put("bob", 1, DATE, "b");
+        cache.get("alice", 1, DATE);
+        cache.put("carl", 1, DATE, "c");
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("bob", 1, DATE).isEmpty());
+        assertEquals(Optional.of("a"), cache.get("alice", 1, DATE));
+        assertEquals(Optional.of("c"), cache.get("carl", 1, DATE));
+    }
+}
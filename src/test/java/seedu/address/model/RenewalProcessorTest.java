@@ -23,7 +23,7 @@ public class RenewalProcessorTest {
 
         assertEquals(person.getName().toString(), entry.getClient());
         assertEquals(person.getPolicy().policyNumber, entry.getPolicy());
-        assertEquals(person.getPolicy().renewalDate.value, entry.getRenewalDate());
+        assertEquals(person.getPolicy().renewalDate.getValue(), entry.getRenewalDate());
         assertEquals(person.getPolicy().getDaysUntilRenewal(), entry.getDaysLeft());
         assertEquals("Life", entry.getType()); // Current placeholder value
         assertEquals(person.getPhone().toString(), entry.getContact());
@@ -55,6 +55,19 @@ public class RenewalProcessorTest {
         assertEquals("Charlie", entries.get(2).getClient());
     }
 
+    @Test
+    public void processRenewals_givenDate_daysLeftCountedFromGivenDate() {
+        LocalDate renewalDate = LocalDate.now().plusDays(10);
+        Person person = new PersonBuilder()
+                .withPolicy("111111", renewalDate.format(RenewalDate.DATE_FORMATTER))
+                .build();
+
+        List<RenewalEntry> entries = RenewalProcessor.processRenewals(List.of(person), renewalDate.minusDays(3))
+                .getEntries();
+
+        assertEquals(3, entries.get(0).getDaysLeft());
+    }
+
     @Test
     public void processRenewals_withEmptyList_returnsEmptyTableData() {
         RenewalTableData tableData = RenewalProcessor.processRenewals(Arrays.asList());
@@ -1,5 +1,9 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +22,42 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void resetData_prettyPrintDataFile_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isPrettyPrintDataFile());
+
+        UserPrefs prettyPrintPrefs = new UserPrefs();
+        prettyPrintPrefs.setPrettyPrintDataFile(true);
+        userPrefs.resetData(prettyPrintPrefs);
+        assertTrue(userPrefs.isPrettyPrintDataFile());
+        assertEquals(prettyPrintPrefs, userPrefs);
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
+    @Test
+    public void resetData_binaryDataFile_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isBinaryDataFile());
+
+        UserPrefs binaryPrefs = new UserPrefs();
+        binaryPrefs.setBinaryDataFile(true);
+        userPrefs.resetData(binaryPrefs);
+        assertTrue(userPrefs.isBinaryDataFile());
+        assertEquals(binaryPrefs, userPrefs);
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
+    @Test
+    public void resetData_parallelFindThreshold_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(UserPrefs.DEFAULT_PARALLEL_FIND_THRESHOLD, userPrefs.getParallelFindThreshold());
+
+        UserPrefs parallelPrefs = new UserPrefs();
+        parallelPrefs.setParallelFindThreshold(1000);
+        userPrefs.resetData(parallelPrefs);
+        assertEquals(1000, userPrefs.getParallelFindThreshold());
+        assertEquals(parallelPrefs, userPrefs);
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
 }
@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorInputs;
+
 public class AddressTest {
 
     @Test
@@ -53,4 +56,11 @@ public class AddressTest {
         // different values -> returns false
         assertFalse(address.equals(new Address("Other Valid Address")));
     }
+
+    @Test
+    public void isValidAddress_randomInputs_sameAsValidationRegex() {
+        for (String test : ValidatorInputs.addresses(1, 100_000)) {
+            assertEquals(test.matches(Address.VALIDATION_REGEX), Address.isValidAddress(test), test);
+        }
+    }
 }
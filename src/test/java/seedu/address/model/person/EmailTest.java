@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorInputs;
+
 public class EmailTest {
 
     @Test
@@ -85,4 +88,11 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_randomInputs_sameAsValidationRegex() {
+        for (String test : ValidatorInputs.emails(1, 100_000)) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
 }
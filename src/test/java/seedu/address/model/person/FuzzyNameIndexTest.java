@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.NameIndexAssert.assertFoundSameAsCheckingEveryPerson;
+import static seedu.address.testutil.NameIndexAssert.assertRemovesIndexedInstance;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.GeneratedPersons;
+
+public class FuzzyNameIndexTest {
+
+    private final FuzzyNameIndex index = new FuzzyNameIndex();
+
+    @Test
+    public void find_emptyIndex_returnsEmptyMap() {
+        assertTrue(index.find("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void find_wordsWithinDistance_returnsPersonsWithSmallestDistance() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        assertEquals(Map.of(ALICE, 1), index.find("alie", 2));
+        assertEquals(Map.of(BENSON, 1, DANIEL, 1), index.find("meir", 1));
+        assertEquals(Map.of(BENSON, 0, DANIEL, 0), index.find("meier", 0));
+        assertTrue(index.find("meir", 0).isEmpty());
+    }
+
+    @Test
+    public void remove_addedInstance_notFoundAnymore() {
+        assertRemovesIndexedInstance(index::add, index::remove, () -> index.find("meier", 0).keySet());
+        assertEquals(Map.of(DANIEL, 0), new FuzzyNameIndex(index).find("meier", 0));
+    }
+
+    @Test
+    public void find_generatedPersons_sameAsComparingEveryName() {
+        List<Person> persons = GeneratedPersons.generate(3, 2000);
+        persons.forEach(index::add);
+        String[] searchWords = {"jhon", "tna", "kumr", "balakrishnen", "wei", "oliviero", "nuurl", "x"};
+        Random random = new Random(3);
+        for (String searchWord : searchWords) {
+            int maxDistance = random.nextInt(3);
+            assertFoundSameAsCheckingEveryPerson(persons, index.find(searchWord, maxDistance), person -> {
+                int distance = person.getName().getSearchWords().stream()
+                        .mapToInt(word -> StringUtil.getEditDistance(searchWord, word)).min().getAsInt();
+                return (distance <= maxDistance) ? Optional.of(distance) : Optional.empty();
+            }, searchWord);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameFuzzyMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchPredicate firstPredicate = new NameFuzzyMatchPredicate(Set.of(new Name("first")));
+        NameFuzzyMatchPredicate secondPredicate = new NameFuzzyMatchPredicate(
+                Set.of(new Name("first"), new Name("second")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameFuzzyMatchPredicate(Set.of(new Name("first")))));
+        assertEquals(firstPredicate.hashCode(), new NameFuzzyMatchPredicate(Set.of(new Name("first"))).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(Set.of(new Name("first")))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(0, NameFuzzyMatchPredicate.getMaxEditDistance("al"));
+        assertEquals(1, NameFuzzyMatchPredicate.getMaxEditDistance("tan"));
+        assertEquals(2, NameFuzzyMatchPredicate.getMaxEditDistance("jonh"));
+    }
+
+    @Test
+    public void getSearchWords_splitsKeywordsIntoWords() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Set.of(new Name("Jonh  Tna")));
+        assertEquals(List.of("jonh", "tna"), predicate.getSearchWords());
+    }
+
+    @Test
+    public void test_nameWithinEditDistance_returnsTrue() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Set.of(new Name("jonh")));
+        assertTrue(predicate.test(new PersonBuilder().withName("John Tan").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Tan JOHN").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Jon").build()));
+
+        // any keyword word
+        predicate = new NameFuzzyMatchPredicate(Set.of(new Name("Alcie"), new Name("Bob Meir")));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+    }
+
+    @Test
+    public void test_nameBeyondEditDistance_returnsFalse() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Set.of(new Name("jonh")));
+        assertFalse(predicate.test(new PersonBuilder().withName("Joanna").build()));
+
+        // short words must match more closely
+        predicate = new NameFuzzyMatchPredicate(Set.of(new Name("al")));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ali").build()));
+        predicate = new NameFuzzyMatchPredicate(Set.of(new Name("tna")));
+        assertFalse(predicate.test(new PersonBuilder().withName("Tan").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Tina").build()));
+    }
+
+    @Test
+    public void getEditDistance_closestWord() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Set.of(new Name("Meir Danial")));
+        assertEquals(1, predicate.getEditDistance(BENSON));
+        assertEquals(1, predicate.getEditDistance(DANIEL));
+        assertEquals(NameFuzzyMatchPredicate.NO_MATCH_DISTANCE, predicate.getEditDistance(ALICE));
+    }
+
+    @Test
+    public void getCandidates_sameAsTest() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        List.of(ALICE, BENSON, DANIEL).forEach(index::add);
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Set.of(new Name("Meir")));
+        assertEquals(Set.of(BENSON, DANIEL), predicate.getCandidates(index).get());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Name> keywords = Set.of(new Name("keyword1"));
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(keywords);
+
+        String expected = NameFuzzyMatchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
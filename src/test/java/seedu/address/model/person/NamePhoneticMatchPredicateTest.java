@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NamePhoneticMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        NamePhoneticMatchPredicate firstPredicate = new NamePhoneticMatchPredicate(Set.of(new Name("first")));
+        NamePhoneticMatchPredicate secondPredicate = new NamePhoneticMatchPredicate(
+                Set.of(new Name("first"), new Name("second")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NamePhoneticMatchPredicate(Set.of(new Name("first")))));
+        assertEquals(firstPredicate.hashCode(), new NamePhoneticMatchPredicate(Set.of(new Name("first"))).hashCode());
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(new NameFuzzyMatchPredicate(Set.of(new Name("first")))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getPhoneticKeys_keysOfEveryWord() {
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(
+                Set.of(new Name("Kathryn Jon"), new Name("John")));
+        assertEquals(Set.of("2365", "85"), predicate.getPhoneticKeys());
+    }
+
+    @Test
+    public void test_soundAlikeName_returnsTrue() {
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(Set.of(new Name("kathryn")));
+        assertTrue(predicate.test(new PersonBuilder().withName("Catherine Tan").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Tan KATHRINE").build()));
+
+        // any keyword word
+        predicate = new NamePhoneticMatchPredicate(Set.of(new Name("Alyce"), new Name("Bob Mayer")));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+    }
+
+    @Test
+    public void test_soundDifferentName_returnsFalse() {
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(Set.of(new Name("kathryn")));
+        assertFalse(predicate.test(new PersonBuilder().withName("Karen").build()));
+
+        // words without letters sound like nothing
+        predicate = new NamePhoneticMatchPredicate(Set.of(new Name("123")));
+        assertFalse(predicate.test(new PersonBuilder().withName("Tan 123").build()));
+    }
+
+    @Test
+    public void getCandidates_sameAsTest() {
+        PersonSearchIndex index = new PersonSearchIndex();
+        List.of(ALICE, BENSON, DANIEL, ELLE).forEach(index::add);
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(Set.of(new Name("Mayer")));
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), predicate.getCandidates(index).get());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Name> keywords = Set.of(new Name("keyword1"));
+        NamePhoneticMatchPredicate predicate = new NamePhoneticMatchPredicate(keywords);
+
+        String expected = NamePhoneticMatchPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,11 +1,16 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorInputs;
+
 public class NameTest {
 
     @Test
@@ -57,4 +62,24 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getSearchWords() {
+        assertEquals(List.of("peter"), new Name("Peter").getSearchWords());
+        assertEquals(List.of("david", "roger", "jackson", "ray", "jr", "2nd"),
+                new Name("David Roger  Jackson Ray Jr 2nd ").getSearchWords());
+    }
+
+    @Test
+    public void getPhoneticKeys() {
+        assertEquals(List.of("85", "53", "75"), new Name("Jon John 2nd Sean").getPhoneticKeys());
+        assertEquals(List.of("05"), new Name("123 Ann").getPhoneticKeys());
+    }
+
+    @Test
+    public void isValidName_randomInputs_sameAsValidationRegex() {
+        for (String test : ValidatorInputs.names(1, 100_000)) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+        }
+    }
 }
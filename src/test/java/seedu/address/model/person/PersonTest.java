@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -25,6 +26,29 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getSearchKey() {
+        Person person = new PersonBuilder().withName("Alice PAULINE").withAddress("123, Jurong WEST")
+                .withEmail("Alice@Example.com").withPhone("94351253").withPolicy("135792").build();
+        assertEquals("alice pauline", person.getSearchKey(SearchField.NAME));
+        assertEquals("123, jurong west", person.getSearchKey(SearchField.ADDRESS));
+        assertEquals("alice@example.com", person.getSearchKey(SearchField.EMAIL));
+        assertEquals("94351253", person.getSearchKey(SearchField.PHONE));
+        assertEquals("135792", person.getSearchKey(SearchField.POLICY_NUMBER));
+
+        // computed once, then kept
+        assertSame(person.getSearchKey(SearchField.NAME), person.getSearchKey(SearchField.NAME));
+    }
+
+    @Test
+    public void hasAnyTag() {
+        Person person = new PersonBuilder().withTags("friends", "owesMoney").build();
+        assertTrue(person.hasAnyTag(new String[] {"colleagues", "owesmoney"}));
+        assertFalse(person.hasAnyTag(new String[] {"colleagues", "owes"}));
+        assertFalse(person.hasAnyTag(new String[0]));
+        assertFalse(new PersonBuilder().withTags().build().hasAnyTag(new String[] {"friends"}));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
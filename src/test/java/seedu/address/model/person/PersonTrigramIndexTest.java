@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTrigramIndexTest {
+
+    private final PersonTrigramIndex index = new PersonTrigramIndex();
+
+    @Test
+    public void getCandidates_searchTermTooShort_returnsEmptyOptional() {
+        index.add(ALICE);
+        assertEquals(Optional.empty(), index.getCandidates(SearchField.NAME, "al"));
+        assertEquals(Optional.empty(), index.getCandidates(SearchField.NAME, "  al  "));
+    }
+
+    @Test
+    public void getCandidates_substringOfField_returnsPersonIgnoringCase() {
+        index.add(ALICE);
+        index.add(BENSON);
+
+        assertEquals(Set.of(ALICE), index.getCandidates(SearchField.NAME, " PAULine ").get());
+        assertEquals(Set.of(ALICE), index.getCandidates(SearchField.PHONE, "4351").get());
+        assertEquals(Set.of(ALICE), index.getCandidates(SearchField.EMAIL, "alice@").get());
+        assertEquals(Set.of(BENSON), index.getCandidates(SearchField.ADDRESS, "clementi").get());
+        assertEquals(Set.of(BENSON), index.getCandidates(SearchField.POLICY_NUMBER, "7924").get());
+        assertEquals(Set.of(ALICE, BENSON), index.getCandidates(SearchField.EMAIL, "example").get());
+    }
+
+    @Test
+    public void getCandidates_substringOfOtherField_returnsNoPersons() {
+        index.add(ALICE);
+        assertTrue(index.getCandidates(SearchField.ADDRESS, "alice").get().isEmpty());
+        assertTrue(index.getCandidates(SearchField.NAME, "xyz").get().isEmpty());
+    }
+
+    @Test
+    public void getCandidatesForAny_anySearchTermTooShort_returnsEmptyOptional() {
+        index.add(ALICE);
+        assertEquals(Optional.empty(), index.getCandidatesForAny(SearchField.NAME, List.of("alice", "b")));
+
+        index.add(CARL);
+        assertEquals(Set.of(ALICE, CARL), index.getCandidatesForAny(SearchField.NAME, List.of("alice", "carl")).get());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerCandidate() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+
+        assertEquals(Set.of(BENSON), index.getCandidates(SearchField.EMAIL, "example").get());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void remove_manyPersons_remainingPersonsStillFound() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3 * PersonTrigramIndex.MIN_REMOVED_BEFORE_REBUILD; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPolicy(String.valueOf(100000 + i)).build();
+            persons.add(person);
+            index.add(person);
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % 10 != 0) {
+                index.remove(persons.get(i));
+            }
+        }
+
+        assertEquals(Set.of(persons.get(1230)), index.getCandidates(SearchField.POLICY_NUMBER, "101230").get());
+        assertTrue(index.getCandidates(SearchField.POLICY_NUMBER, "101231").get().isEmpty());
+        assertEquals((persons.size() + 9) / 10, index.size());
+    }
+
+    @Test
+    public void getCandidates_randomSearchTerms_includesEveryMatch() {
+        Random random = new Random(1);
+        String[] names = {"Alex Yeoh", "Bernice Yu", "Charlotte Oliveiro", "David Li", "Irfan Ibrahim",
+            "Roy Balakrishnan", "alexandra yeo", "Yu Ber"};
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            Person person = new PersonBuilder().withName(names[i]).withPolicy(String.valueOf(200000 + i)).build();
+            persons.add(person);
+            index.add(person);
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            String name = names[random.nextInt(names.length)];
+            int start = random.nextInt(name.length());
+            String searchTerm = name.substring(start, Math.min(name.length(), start + 3 + random.nextInt(6)));
+            if (searchTerm.trim().length() < PersonTrigramIndex.GRAM_LENGTH) {
+                continue;
+            }
+            Set<Person> candidates = index.getCandidates(SearchField.NAME, searchTerm.toUpperCase()).get();
+            for (Person person : persons) {
+                boolean isMatch = StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, searchTerm);
+                assertFalse(isMatch && !candidates.contains(person), searchTerm + " missed " + person);
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorInputs;
+
 public class PhoneTest {
 
     @Test
@@ -58,4 +61,11 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
     }
+
+    @Test
+    public void isValidPhone_randomInputs_sameAsValidationRegex() {
+        for (String test : ValidatorInputs.phones(1, 100_000)) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
 }
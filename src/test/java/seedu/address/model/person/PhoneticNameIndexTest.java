@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.NameIndexAssert.assertFoundSameAsCheckingEveryPerson;
+import static seedu.address.testutil.NameIndexAssert.assertRemovesIndexedInstance;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.testutil.GeneratedPersons;
+
+public class PhoneticNameIndexTest {
+
+    private final PhoneticNameIndex index = new PhoneticNameIndex();
+
+    @Test
+    public void find_emptyIndex_returnsEmptySet() {
+        assertTrue(index.find("56").isEmpty());
+    }
+
+    @Test
+    public void find_soundAlikeWords_returnsPersons() {
+        List.of(ALICE, BENSON, DANIEL, ELLE).forEach(index::add);
+
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), index.find(StringUtil.getPhoneticKey("mayer")));
+        assertEquals(Set.of(ALICE), index.find(StringUtil.getPhoneticKey("alyce")));
+        assertTrue(index.find(StringUtil.getPhoneticKey("zhang")).isEmpty());
+    }
+
+    @Test
+    public void find_modifyResult_throwsUnsupportedOperationException() {
+        index.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> index.find(StringUtil.getPhoneticKey("alice"))
+                .remove(ALICE));
+    }
+
+    @Test
+    public void remove_addedInstance_notFoundAnymore() {
+        String key = StringUtil.getPhoneticKey("meier");
+        assertRemovesIndexedInstance(index::add, index::remove, () -> index.find(key));
+        assertEquals(Set.of(DANIEL), new PhoneticNameIndex(index).find(key));
+    }
+
+    @Test
+    public void find_generatedPersons_sameAsEncodingEveryName() {
+        List<Person> persons = GeneratedPersons.generate(5, 2000);
+        persons.forEach(index::add);
+        String[] searchWords = {"jhon", "catherine", "kumar", "balakrishnen", "wei", "muhammad", "x"};
+        for (String searchWord : searchWords) {
+            String key = StringUtil.getPhoneticKey(searchWord);
+            Map<Person, String> found = index.find(key).stream()
+                    .collect(Collectors.toMap(Function.identity(), unused -> key));
+            assertFoundSameAsCheckingEveryPerson(persons, found, person -> person.getName().getSearchWords()
+                    .stream().map(StringUtil::getPhoneticKey).filter(key::equals).findAny(), searchWord);
+        }
+    }
+}
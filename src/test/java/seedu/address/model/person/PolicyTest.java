@@ -9,6 +9,8 @@ import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorInputs;
+
 public class PolicyTest {
 
     private static final String VALID_POLICY_NUMBER = "123456";
@@ -71,7 +73,7 @@ public class PolicyTest {
     public void constructor_defaultRenewalDate_setsToOneYear() {
         Policy policy = new Policy(VALID_POLICY_NUMBER);
         LocalDate expectedDate = LocalDate.now().plusYears(1);
-        assertEquals(expectedDate, policy.renewalDate.value);
+        assertEquals(expectedDate, policy.renewalDate.getValue());
         assertEquals(PolicyType.LIFE, policy.getType());
     }
 
@@ -212,7 +214,7 @@ public class PolicyTest {
     @Test
     public void constructor_singleParam_setsRenewalDateToOneYear() {
         Policy policy = new Policy("123456");
-        assertEquals(LocalDate.now().plusYears(1), policy.renewalDate.value);
+        assertEquals(LocalDate.now().plusYears(1), policy.renewalDate.getValue());
         assertEquals(PolicyType.LIFE, policy.getType());
     }
 
@@ -243,4 +245,11 @@ public class PolicyTest {
         assertEquals(String.format("Policy[%s] Type: %s Renewal: %s", "123456", "Travel", VALID_RENEWAL_DATE),
                 travelPolicy.toString());
     }
+
+    @Test
+    public void isValidPolicy_randomInputs_sameAsValidationRegex() {
+        for (String test : ValidatorInputs.policyNumbers(1, 100_000)) {
+            assertEquals(test.matches(Policy.VALIDATION_REGEX), Policy.isValidPolicy(test), test);
+        }
+    }
 }
@@ -9,6 +9,8 @@ import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorInputs;
+
 public class RenewalDateTest {
 
     @Test
@@ -29,11 +31,35 @@ public class RenewalDateTest {
         assertThrows(IllegalArgumentException.class, () -> new RenewalDate(invalidButMatchingDate));
     }
 
+    @Test
+    public void of() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        assertEquals(tomorrow, RenewalDate.of(tomorrow).getValue());
+        assertEquals(new RenewalDate(tomorrow.format(RenewalDate.DATE_FORMATTER)), RenewalDate.of(tomorrow));
+
+        // today or earlier -> throws IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> RenewalDate.of(LocalDate.now()));
+        assertThrows(NullPointerException.class, () -> RenewalDate.of(null));
+    }
+
+    @Test
+    public void ofEpochDay() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        RenewalDate renewalDate = RenewalDate.ofEpochDay((int) tomorrow.toEpochDay());
+        assertEquals(RenewalDate.of(tomorrow), renewalDate);
+        assertEquals(RenewalDate.of(tomorrow).hashCode(), renewalDate.hashCode());
+        assertEquals(tomorrow, renewalDate.getValue());
+        assertEquals(tomorrow.format(RenewalDate.DATE_FORMATTER), renewalDate.toString());
+
+        // today or earlier -> throws IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> RenewalDate.ofEpochDay((int) LocalDate.now().toEpochDay()));
+    }
+
     @Test
     public void constructor_defaultRenewalDate_setsToOneYear() {
         RenewalDate renewalDate = new RenewalDate();
         LocalDate expectedDate = LocalDate.now().plusYears(1);
-        assertEquals(expectedDate, renewalDate.value);
+        assertEquals(expectedDate, renewalDate.getValue());
     }
 
     @Test
@@ -195,6 +221,17 @@ public class RenewalDateTest {
         assertEquals(5, renewalDate.getDaysUntilRenewal());
     }
 
+    @Test
+    public void getDaysUntilRenewal_givenDate_countedFromGivenDate() {
+        LocalDate date = LocalDate.now().plusDays(30);
+        RenewalDate renewalDate = new RenewalDate(date.format(RenewalDate.DATE_FORMATTER));
+        assertEquals(10, renewalDate.getDaysUntilRenewal(date.minusDays(10)));
+        assertEquals(0, renewalDate.getDaysUntilRenewal(date));
+        assertEquals(-5, renewalDate.getDaysUntilRenewal(date.plusDays(5)));
+        assertTrue(renewalDate.isRenewalDueWithin(10, date.minusDays(10)));
+        assertFalse(renewalDate.isRenewalDueWithin(10, date.plusDays(5)));
+    }
+
     @Test
     public void getDaysUntilRenewal_pastDate_returnsNegativeDays() {
         // We can't test past dates since they're invalid for RenewalDate
@@ -233,4 +270,11 @@ public class RenewalDateTest {
         String differentDate = LocalDate.now().plusDays(60).format(RenewalDate.DATE_FORMATTER);
         assertFalse(renewalDate.equals(new RenewalDate(differentDate)));
     }
+
+    @Test
+    public void isValidRenewalDate_randomInputs_sameAsRegexAndFormatterCheck() {
+        for (String test : ValidatorInputs.renewalDates(1, 100_000)) {
+            assertEquals(ValidatorInputs.isValidRenewalDateByRegex(test), RenewalDate.isValidRenewalDate(test), test);
+        }
+    }
 }
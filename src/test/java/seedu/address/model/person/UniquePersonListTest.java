@@ -9,9 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +60,28 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(List.of(ALICE, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(ALICE, ALICE)));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -168,6 +192,100 @@ public class UniquePersonListTest {
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void randomOperations_matchLinearScanBehaviour() {
+        Random random = new Random(2103);
+        LinearPersonList expected = new LinearPersonList();
+
+        for (int i = 0; i < 5000; i++) {
+            Person person = randomPerson(random);
+            int operation = random.nextInt(5);
+            boolean isExpectedRejected = false;
+            boolean isActualRejected = false;
+            if (operation == 0) {
+                assertEquals(expected.contains(person), uniquePersonList.contains(person));
+            } else if (operation == 1) {
+                isExpectedRejected = !expected.add(person);
+                isActualRejected = isRejected(() -> uniquePersonList.add(person));
+            } else if (operation == 2 && !expected.persons.isEmpty()) {
+                Person target = expected.persons.get(random.nextInt(expected.persons.size()));
+                isExpectedRejected = !expected.setPerson(target, person);
+                isActualRejected = isRejected(() -> uniquePersonList.setPerson(target, person));
+            } else if (operation == 3 && !expected.persons.isEmpty()) {
+                Person target = expected.persons.get(random.nextInt(expected.persons.size()));
+                expected.persons.remove(target);
+                uniquePersonList.remove(target);
+            } else if (operation == 4 && random.nextInt(50) == 0) {
+                List<Person> replacement = new ArrayList<>(expected.persons);
+                replacement.add(randomPerson(random));
+                isExpectedRejected = !expected.setPersons(replacement);
+                isActualRejected = isRejected(() -> uniquePersonList.setPersons(replacement));
+            }
+            assertEquals(isExpectedRejected, isActualRejected);
+            assertEquals(expected.persons, uniquePersonList.asUnmodifiableObservableList());
+        }
+    }
+
+    /**
+     * Returns a person drawn from small pools of identity fields, so that collisions are frequent.
+     */
+    private static Person randomPerson(Random random) {
+        return new PersonBuilder()
+                .withName("Person " + random.nextInt(6))
+                .withPhone("9000000" + random.nextInt(6))
+                .withEmail("person" + random.nextInt(6) + "@example.com")
+                .withPolicy("10000" + random.nextInt(20))
+                .build();
+    }
+
+    private static boolean isRejected(Runnable operation) {
+        try {
+            operation.run();
+            return false;
+        } catch (DuplicatePersonException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Reference implementation that checks identity by scanning the whole list with {@code Person#isSamePerson}.
+     */
+    private static class LinearPersonList {
+        private final List<Person> persons = new ArrayList<>();
+
+        boolean contains(Person toCheck) {
+            return persons.stream().anyMatch(toCheck::isSamePerson);
+        }
+
+        boolean add(Person toAdd) {
+            if (contains(toAdd)) {
+                return false;
+            }
+            return persons.add(toAdd);
+        }
+
+        boolean setPerson(Person target, Person editedPerson) {
+            if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+                return false;
+            }
+            persons.set(persons.indexOf(target), editedPerson);
+            return true;
+        }
+
+        boolean setPersons(List<Person> replacement) {
+            for (int i = 0; i < replacement.size() - 1; i++) {
+                for (int j = i + 1; j < replacement.size(); j++) {
+                    if (replacement.get(i).isSamePerson(replacement.get(j))) {
+                        return false;
+                    }
+                }
+            }
+            persons.clear();
+            persons.addAll(replacement);
+            return true;
+        }
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
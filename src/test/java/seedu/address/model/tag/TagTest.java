@@ -1,9 +1,12 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.ValidatorInputs;
+
 public class TagTest {
 
     @Test
@@ -23,4 +26,10 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_randomInputs_sameAsValidationRegex() {
+        for (String test : ValidatorInputs.tagNames(1, 100_000)) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
+    }
 }
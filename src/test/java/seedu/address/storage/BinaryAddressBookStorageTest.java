@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ChecksummedFile;
+import seedu.address.logic.parser.DateTimeParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook((Path) null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getLastUpdated(), readBack.getLastUpdated());
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_fallsBackToPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        Files.delete(ChecksummedFile.getPreviousGenerationPath(filePath));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void isBinaryFile_jsonFile_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(testFolder.resolve("missing.bin")));
+    }
+
+    @Test
+    public void readAddressBook_notBinary_throwsIoException() {
+        byte[] content = "{}".getBytes();
+        assertThrows(IOException.class, () ->
+                BinaryAddressBookStorage.readFrom(new ByteArrayInputStream(content), content.length));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeTo(new AddressBookStub(List.of(ALICE, ALICE)),
+                new DataOutputStream(bytes));
+
+        byte[] content = bytes.toByteArray();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryAddressBookStorage.readFrom(new ByteArrayInputStream(content), content.length));
+    }
+
+    @Test
+    public void readAddressBook_truncated_throwsIoException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeTo(getTypicalAddressBook(), new DataOutputStream(bytes));
+        byte[] content = bytes.toByteArray();
+
+        assertThrows(IOException.class, () -> BinaryAddressBookStorage.readFrom(
+                new ByteArrayInputStream(content, 0, content.length - 3), content.length - 3));
+    }
+
+    @Test
+    public void readAddressBook_stringLengthPastEnd_throwsIoException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = writeHeader(bytes);
+        output.writeInt(1);
+        output.writeInt(Integer.MAX_VALUE);
+        byte[] content = bytes.toByteArray();
+
+        // rejected before allocating the string
+        assertThrows(IOException.class, BinaryAddressBookStorage.MESSAGE_MALFORMED_FILE, () ->
+                BinaryAddressBookStorage.readFrom(new ByteArrayInputStream(content), content.length));
+    }
+
+    @Test
+    public void readAddressBook_personCountPastEnd_throwsIoException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = writeHeader(bytes);
+        output.writeInt(0);
+        output.writeInt(1);
+        byte[] content = bytes.toByteArray();
+
+        assertThrows(IOException.class, BinaryAddressBookStorage.MESSAGE_MALFORMED_FILE, () ->
+                BinaryAddressBookStorage.readFrom(new ByteArrayInputStream(content), content.length));
+    }
+
+    /**
+     * Writes the start of a binary address book with no last updated time to {@code bytes}.
+     */
+    private static DataOutputStream writeHeader(ByteArrayOutputStream bytes) throws IOException {
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeTo(new AddressBookStub(List.of(), null), new DataOutputStream(empty));
+        byte[] emptyContent = empty.toByteArray();
+        // drops the empty string table and person list
+        bytes.write(emptyContent, 0, emptyContent.length - 2 * Integer.BYTES);
+        return new DataOutputStream(bytes);
+    }
+
+    /**
+     * A {@code ReadOnlyAddressBook} whose persons can violate the uniqueness constraint.
+     */
+    private static class AddressBookStub implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons = FXCollections.observableArrayList();
+        private final LocalDateTime lastUpdated;
+
+        AddressBookStub(List<Person> persons) {
+            this(persons, LocalDateTime.now());
+        }
+
+        AddressBookStub(List<Person> persons, LocalDateTime lastUpdated) {
+            this.persons.setAll(persons);
+            this.lastUpdated = lastUpdated;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public LocalDateTime getLastUpdated() {
+            return lastUpdated;
+        }
+
+        @Override
+        public String getLastUpdatedString() {
+            return DateTimeParser.stringDateTime(lastUpdated);
+        }
+    }
+}
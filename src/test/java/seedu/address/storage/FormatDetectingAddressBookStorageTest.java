@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.ChecksummedFile;
+import seedu.address.model.AddressBook;
+
+public class FormatDetectingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_formatSwitched_readsOldFormatAndSavesNewFormat() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new FormatDetectingAddressBookStorage(filePath, false, false).saveAddressBook(original);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        // JSON to binary
+        FormatDetectingAddressBookStorage binaryStorage = new FormatDetectingAddressBookStorage(filePath, true, false);
+        AddressBook readBack = new AddressBook(binaryStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        readBack.addPerson(HOON);
+        binaryStorage.saveAddressBook(readBack);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        // binary back to JSON
+        FormatDetectingAddressBookStorage jsonStorage = new FormatDetectingAddressBookStorage(filePath, false, true);
+        AddressBook readBackAgain = new AddressBook(jsonStorage.readAddressBook().get());
+        assertEquals(readBack, readBackAgain);
+        readBackAgain.addPerson(IDA);
+        jsonStorage.saveAddressBook(readBackAgain);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(readBackAgain, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedBinaryFile_fallsBackToJsonPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new FormatDetectingAddressBookStorage(filePath, false, false).saveAddressBook(original);
+        FormatDetectingAddressBookStorage binaryStorage = new FormatDetectingAddressBookStorage(filePath, true, false);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        binaryStorage.saveAddressBook(edited);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(ChecksummedFile.getPreviousGenerationPath(filePath)));
+
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length / 2] ^= 1;
+        Files.write(filePath, content);
+
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage createStorage(Path filePath, long compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    private AddressBook readBack(Path filePath) throws DataLoadingException {
+        return new AddressBook(createStorage(filePath, Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesJournaled_dataFileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // add, delete and edit
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedHoon = new PersonBuilder(HOON).withPhone("99999999").build();
+        original.setPerson(HOON, editedHoon);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, readBack(filePath));
+
+        // clear
+        original.setPersons(List.of());
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, Long.MAX_VALUE).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook readAddressBook = new AddressBook(storage.readAddressBook().get());
+        readAddressBook.addPerson(IDA);
+        storage.saveAddressBook(readAddressBook);
+
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(readAddressBook, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_coalescedSnapshots_combinedChangesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        PersonListChangeRecorder recorder = new PersonListChangeRecorder();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(recorder.takeSnapshot(original));
+
+        original.addPerson(HOON);
+        AddressBookSnapshot secondSnapshot = recorder.takeSnapshot(original);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(secondSnapshot.followedBy(recorder.takeSnapshot(original)));
+
+        assertEquals(4, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_savedWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        // every save is followed by a snapshot written in the background, leaving only the header in the journal
+        assertEquals(1, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journalOfPreviousSnapshot_notReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // a compaction that wrote the snapshot but stopped before replacing the journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedByHand_previousGenerationReadWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, Long.MAX_VALUE).saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getName().fullName, "Alice Edited"));
+
+        // the journal belongs to the edited snapshot, not to the previous generation read instead
+        assertEquals(expected, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotMissing_previousGenerationReadWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        createStorage(filePath, Long.MAX_VALUE).saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        Files.delete(filePath);
+
+        assertEquals(expected, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoredAndCompacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journalFilePath, "{\"from\":3,\"remo", StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopenedStorage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook readAddressBook = new AddressBook(reopenedStorage.readAddressBook().get());
+        assertEquals(original, readAddressBook);
+
+        readAddressBook.addPerson(IDA);
+        reopenedStorage.saveAddressBook(readAddressBook);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(readAddressBook, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = createStorage(filePath, Long.MAX_VALUE);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.writeString(journalFilePath, "not a record\n", StandardOpenOption.APPEND);
+        Files.writeString(journalFilePath, "{\"from\":0,\"removed\":0,\"persons\":[]}\n", StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> readBack(filePath));
+    }
+}
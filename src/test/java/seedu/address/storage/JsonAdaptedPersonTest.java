@@ -253,7 +253,7 @@ public class JsonAdaptedPersonTest {
             assertTrue(VALID_POLICY.contains(modelPerson.getPolicy().policyNumber));
             // Check that the renewal date is approximately 1 year from now (within 1 day)
             LocalDate expectedDate = LocalDate.now().plusYears(1);
-            LocalDate actualDate = modelPerson.getPolicy().renewalDate.value;
+            LocalDate actualDate = modelPerson.getPolicy().renewalDate.getValue();
             long daysDifference = Math.abs(expectedDate.toEpochDay() - actualDate.toEpochDay());
             assertTrue(daysDifference <= 1, "Renewal date should be approximately 1 year from now");
         } catch (IllegalValueException e) {
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +10,11 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,78 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrintedOrCompact_readBackEqual() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+
+        Path compactFilePath = testFolder.resolve("CompactAddressBook.json");
+        new JsonAddressBookStorage(compactFilePath).saveAddressBook(original);
+        // the content is on one line, followed by the checksum trailer
+        assertEquals(2, Files.readAllLines(compactFilePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compactFilePath).readAddressBook().get()));
+
+        Path prettyFilePath = testFolder.resolve("PrettyAddressBook.json");
+        new JsonAddressBookStorage(prettyFilePath, true).saveAddressBook(original);
+        assertTrue(Files.readAllLines(prettyFilePath).size() > 2);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(prettyFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_fallsBackToPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook previous = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(previous);
+        AddressBook current = new AddressBook(previous);
+        current.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(current);
+        assertEquals(current, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // a flipped byte is caught by the checksum even though the file is still valid JSON
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replaceFirst(HOON.getPhone().value, "00000000"));
+        assertEquals(previous, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // a save interrupted between renaming the old file and renaming the new one
+        Files.delete(filePath);
+        assertEquals(previous, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_withListener_personsHandedOverAgainOnFallback() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook previous = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(previous);
+        AddressBook current = new AddressBook(previous);
+        current.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(current);
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replaceFirst(HOON.getPhone().value, "84824240"));
+
+        List<Integer> fromIndexes = new ArrayList<>();
+        List<Person> personsRead = new ArrayList<>();
+        ReadOnlyAddressBook addressBook = jsonAddressBookStorage.readAddressBook((fromIndex, persons) -> {
+            fromIndexes.add(fromIndex);
+            personsRead.subList(fromIndex, personsRead.size()).clear();
+            personsRead.addAll(persons);
+        }).get();
+
+        // the corrupted file is only found out once it has been read, so its previous generation starts over
+        assertEquals(List.of(0, 0), fromIndexes);
+        assertEquals(previous.getPersonList(), personsRead);
+        assertEquals(previous, new AddressBook(addressBook));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileWithoutPreviousGeneration_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.replaceFirst(ALICE.getPhone().value, "00000000"));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
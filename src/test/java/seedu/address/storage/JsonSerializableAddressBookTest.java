@@ -5,16 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -27,6 +39,7 @@ public class JsonSerializableAddressBookTest {
                                                     .resolve("invalidLastUpdatedAddressBook.json");
     private static final Path MISSING_LAST_UPDATED_FILE = TEST_DATA_FOLDER
                                                     .resolve("missingLastUpdatedAddressBook.json");
+    private static final int PERSON_COUNT = 1000;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -81,4 +94,92 @@ public class JsonSerializableAddressBookTest {
         long secondsDiff = java.time.Duration.between(lastUpdated, now).getSeconds();
         assertTrue(secondsDiff < 60, "Last updated timestamp should be recent");
     }
+
+    @Test
+    public void readAddressBook_savedTypicalPersons_success() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalPersonsAddressBook));
+        AddressBook addressBookFromJson = readAddressBook(new ByteArrayInputStream(json.getBytes()));
+        assertEquals(typicalPersonsAddressBook, addressBookFromJson);
+        assertEquals(typicalPersonsAddressBook.getLastUpdatedString(), addressBookFromJson.getLastUpdatedString());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readAddressBook(Files.newInputStream(INVALID_PERSON_FILE)));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readAddressBook(Files.newInputStream(DUPLICATE_PERSON_FILE)));
+    }
+
+    @Test
+    public void readAddressBook_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> readAddressBook(new ByteArrayInputStream("[]".getBytes())));
+        assertThrows(IOException.class, () -> readAddressBook(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    public void readAddressBook_manyPersons_orderPreserved() throws Exception {
+        List<Person> persons = createPersons(PERSON_COUNT);
+        String json = toJson(persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+
+        assertEquals(persons, readAddressBook(new ByteArrayInputStream(json.getBytes())).getPersonList());
+        assertEquals(persons, JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class)
+                .toModelType().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_manyPersonsWithInvalidPersons_firstInvalidPersonReported() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = createPersons(PERSON_COUNT).stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        adaptedPersons.set(300, withField(adaptedPersons.get(300), "phone", "+11"));
+        adaptedPersons.set(700, withField(adaptedPersons.get(700), "name", "R@chel"));
+        String json = toJson(adaptedPersons);
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                readAddressBook(new ByteArrayInputStream(json.getBytes())));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    @Test
+    public void readAddressBook_manyPersonsWithDuplicateBeforeInvalidPerson_duplicateReported() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = createPersons(PERSON_COUNT).stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        adaptedPersons.set(500, adaptedPersons.get(100));
+        adaptedPersons.set(600, withField(adaptedPersons.get(600), "phone", "+11"));
+        String json = toJson(adaptedPersons);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readAddressBook(new ByteArrayInputStream(json.getBytes())));
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withPolicy(String.valueOf(100000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withField(JsonAdaptedPerson adaptedPerson, String field, String value)
+            throws IOException {
+        String json = JsonUtil.toJsonString(adaptedPerson).replaceFirst("\"" + field + "\" : \"[^\"]*\"",
+                "\"" + field + "\" : \"" + value + "\"");
+        return JsonUtil.fromJsonString(json, JsonAdaptedPerson.class);
+    }
+
+    private static String toJson(List<JsonAdaptedPerson> adaptedPersons) throws IOException {
+        return JsonUtil.toJsonString(Map.of("persons", adaptedPersons));
+    }
+
+    private static AddressBook readAddressBook(InputStream inputStream) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(inputStream)) {
+            return JsonSerializableAddressBook.readAddressBook(parser);
+        }
+    }
 }
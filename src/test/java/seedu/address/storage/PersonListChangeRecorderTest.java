@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListChangeRecorderTest {
+
+    private final PersonListChangeRecorder recorder = new PersonListChangeRecorder();
+
+    @Test
+    public void takeSnapshot_firstSnapshot_changesUnknown() {
+        AddressBookSnapshot snapshot = recorder.takeSnapshot(getTypicalAddressBook());
+        assertNull(snapshot.getChanges());
+        assertEquals(AddressBookSnapshot.NO_SEQUENCE, snapshot.getBaseSequence());
+    }
+
+    @Test
+    public void takeSnapshot_otherAddressBook_changesUnknown() {
+        recorder.takeSnapshot(getTypicalAddressBook());
+        assertNull(recorder.takeSnapshot(getTypicalAddressBook()).getChanges());
+    }
+
+    @Test
+    public void takeSnapshot_changesMade_changesSincePreviousSnapshot() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot firstSnapshot = recorder.takeSnapshot(addressBook);
+        int size = addressBook.getPersonList().size();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+
+        AddressBookSnapshot secondSnapshot = recorder.takeSnapshot(addressBook);
+        assertEquals(firstSnapshot.getSequence(), secondSnapshot.getBaseSequence());
+        assertEquals(List.of(new PersonListChange(size, 0, List.of(HOON)), new PersonListChange(0, 1, List.of())),
+                secondSnapshot.getChanges());
+
+        // nothing changed since the second snapshot
+        assertEquals(List.of(), recorder.takeSnapshot(addressBook).getChanges());
+    }
+
+    @Test
+    public void takeSnapshot_randomChanges_changesReproducePersonList() {
+        Random random = new Random(42);
+        AddressBook addressBook = new AddressBook();
+        List<Person> savedPersons = new ArrayList<>(recorder.takeSnapshot(addressBook).getPersonList());
+        int nextId = 0;
+
+        for (int round = 0; round < 200; round++) {
+            int changeCount = random.nextInt(4);
+            for (int i = 0; i < changeCount; i++) {
+                List<Person> persons = addressBook.getPersonList();
+                int operation = random.nextInt(10);
+                if (operation < 5 || persons.isEmpty()) {
+                    addressBook.addPerson(createPerson(nextId++));
+                } else if (operation < 7) {
+                    addressBook.removePerson(persons.get(random.nextInt(persons.size())));
+                } else if (operation < 9) {
+                    addressBook.setPerson(persons.get(random.nextInt(persons.size())), createPerson(nextId++));
+                } else {
+                    List<Person> replacement = new ArrayList<>(persons.subList(0, persons.size() / 2));
+                    replacement.add(createPerson(nextId++));
+                    addressBook.setPersons(replacement);
+                }
+            }
+
+            AddressBookSnapshot snapshot = recorder.takeSnapshot(addressBook);
+            snapshot.getChanges().forEach(change -> change.applyTo(savedPersons));
+            assertEquals(addressBook.getPersonList(), savedPersons);
+        }
+    }
+
+    @Test
+    public void followedBy_consecutiveSnapshots_changesCombined() {
+        AddressBook addressBook = new AddressBook();
+        recorder.takeSnapshot(addressBook);
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot secondSnapshot = recorder.takeSnapshot(addressBook);
+        addressBook.addPerson(IDA);
+        AddressBookSnapshot thirdSnapshot = recorder.takeSnapshot(addressBook);
+
+        AddressBookSnapshot combinedSnapshot = secondSnapshot.followedBy(thirdSnapshot);
+        assertEquals(secondSnapshot.getBaseSequence(), combinedSnapshot.getBaseSequence());
+        assertEquals(thirdSnapshot.getSequence(), combinedSnapshot.getSequence());
+        assertSame(thirdSnapshot.getPersonList(), combinedSnapshot.getPersonList());
+        assertEquals(List.of(new PersonListChange(0, 0, List.of(HOON)), new PersonListChange(1, 0, List.of(IDA))),
+                combinedSnapshot.getChanges());
+    }
+
+    @Test
+    public void followedBy_changesUnknown_returnsNextSnapshot() {
+        AddressBook addressBook = new AddressBook();
+        AddressBookSnapshot firstSnapshot = recorder.takeSnapshot(addressBook);
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot secondSnapshot = recorder.takeSnapshot(addressBook);
+        assertSame(secondSnapshot, firstSnapshot.followedBy(secondSnapshot));
+    }
+
+    private static Person createPerson(int id) {
+        return new PersonBuilder().withName("Person " + id).withPolicy(String.format("%06d", id)).build();
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // Changes made after saving are not part of the snapshot being written
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.flushAddressBook();
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+
+        // Reading waits for the pending save
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savesDuringWrite_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> writes = new ArrayList<>();
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                writes.add(addressBook);
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage);
+
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        writeStarted.await();
+
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        releaseWrite.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(2, writes.size());
+        assertEquals(new AddressBook(), new AddressBook(writes.get(0)));
+        assertEquals(addressBook, new AddressBook(writes.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_errorReported() throws Exception {
+        IOException saveError = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw saveError;
+            }
+        };
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(failingStorage);
+        List<IOException> reportedErrors = new ArrayList<>();
+        storage.setSaveErrorHandler(reportedErrors::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, saveError.getMessage(), storage::flushAddressBook);
+        assertEquals(1, reportedErrors.size());
+        assertSame(saveError, reportedErrors.get(0));
+    }
+}
@@ -11,6 +11,8 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.EmailContainsKeywordsPredicate;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NamePhoneticMatchPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.PhoneContainsNumbersPredicate;
@@ -58,6 +60,26 @@ public class FindPersonsPredicateBuilder {
         return this;
     }
 
+    /**
+     * Parses the {@code names} into a {@code NameFuzzyMatchPredicate} and set it to the
+     * {@code FindPersonsPredicate} that we are building.
+     */
+    public FindPersonsPredicateBuilder withFuzzyNames(String... names) {
+        Set<Name> nameSet = Stream.of(names).map(Name::new).collect(Collectors.toSet());
+        predicate.setFuzzyNamePredicate(new NameFuzzyMatchPredicate(nameSet));
+        return this;
+    }
+
+    /**
+     * Parses the {@code names} into a {@code NamePhoneticMatchPredicate} and set it to the
+     * {@code FindPersonsPredicate} that we are building.
+     */
+    public FindPersonsPredicateBuilder withPhoneticNames(String... names) {
+        Set<Name> nameSet = Stream.of(names).map(Name::new).collect(Collectors.toSet());
+        predicate.setPhoneticNamePredicate(new NamePhoneticMatchPredicate(nameSet));
+        return this;
+    }
+
     /**
      * Parses the {@code phones} into a {@code PhoneContainsNumbersPredicate} and set it to the
      * {@code FindPersonsPredicate} that we are building.
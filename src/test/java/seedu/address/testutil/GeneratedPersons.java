@@ -0,0 +1,51 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PolicyType;
+
+/**
+ * Generates large numbers of distinct, realistic-looking persons, such as for benchmarks.
+ */
+public class GeneratedPersons {
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming",
+        "Siti", "John", "Mary", "Priya", "Ahmad", "Hui Min", "Kenneth", "Nurul", "Rajesh"};
+    private static final String[] FAMILY_NAMES = {"Tan", "Lim", "Lee", "Ng", "Wong", "Yeoh", "Oliveiro", "Ibrahim",
+        "Balakrishnan", "Kumar", "Chua", "Goh", "Teo", "Koh"};
+    private static final String[] STREETS = {"Jurong West Ave", "Clementi Ave", "Serangoon Ave", "Geylang Street",
+        "Tampines Street", "Bedok North Road", "Yishun Ring Road", "Ang Mo Kio Ave"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "gmail.com", "yahoo.com.sg", "u.nus.edu"};
+    private static final String[] TAGS = {"friends", "family", "colleagues", "vip", "owesMoney", "referral"};
+
+    /**
+     * Returns {@code count} persons with distinct names, phones, emails and policy numbers.
+     */
+    public static List<Person> generate(long seed, int count) {
+        Random random = new Random(seed);
+        PolicyType[] policyTypes = PolicyType.values();
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String givenName = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+            String familyName = FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+            String name = givenName + " " + familyName + " " + Integer.toString(i, 36);
+            String tag = TAGS[random.nextInt(TAGS.length)];
+            persons.add(new PersonBuilder()
+                    .withName(name)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail(givenName.replace(" ", "").toLowerCase() + i + "@"
+                            + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)])
+                    .withAddress("Blk " + (1 + random.nextInt(999)) + ", " + STREETS[random.nextInt(STREETS.length)]
+                            + " " + (1 + random.nextInt(9)) + ", #" + (1 + random.nextInt(20)) + "-"
+                            + (1 + random.nextInt(300)))
+                    .withPolicy(String.valueOf(1000000 + i))
+                    .withPolicyType(policyTypes[random.nextInt(policyTypes.length)].toString())
+                    .withTags(random.nextBoolean() ? new String[] {tag} : new String[0])
+                    .build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Assertions shared by the tests of the indexes of the words in the names of persons.
+ */
+public class NameIndexAssert {
+
+    /**
+     * Asserts that {@code remove} removes only the indexed instance of a person from an index, not a person
+     * equal to it. {@code BENSON} and {@code DANIEL} are added with {@code add}, and looked up with
+     * {@code findMeier}, which returns the indexed persons found for their shared name word "meier".
+     */
+    public static void assertRemovesIndexedInstance(Consumer<Person> add, Consumer<Person> remove,
+            Supplier<Collection<Person>> findMeier) {
+        add.accept(BENSON);
+        add.accept(DANIEL);
+        remove.accept(new PersonBuilder(BENSON).build());
+        assertEquals(2, findMeier.get().size());
+
+        remove.accept(BENSON);
+        assertEquals(Set.of(DANIEL), Set.copyOf(findMeier.get()));
+    }
+
+    /**
+     * Asserts that {@code found} maps exactly the persons in {@code persons} that {@code expected} returns a value
+     * for to that value, as the index found them for {@code searchWord}.
+     */
+    public static <T> void assertFoundSameAsCheckingEveryPerson(List<Person> persons, Map<Person, T> found,
+            Function<Person, Optional<T>> expected, String searchWord) {
+        int expectedCount = 0;
+        for (Person person : persons) {
+            Optional<T> expectedValue = expected.apply(person);
+            assertEquals(expectedValue, Optional.ofNullable(found.get(person)), searchWord + " " + person.getName());
+            if (expectedValue.isPresent()) {
+                expectedCount++;
+            }
+        }
+        assertEquals(expectedCount, found.size(), searchWord);
+    }
+}
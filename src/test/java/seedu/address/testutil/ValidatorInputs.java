@@ -0,0 +1,101 @@
+package seedu.address.testutil;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.person.RenewalDate;
+
+/**
+ * Generates random inputs for the value object validators, mixing valid values with near misses.
+ * Inputs are built from tokens that the validators treat specially, so that most branches are taken.
+ */
+public class ValidatorInputs {
+
+    private static final String[] NAME_TOKENS = {"a", "Z", "9", "Alex", " ", "  ", "_", "-", "\t", "\u00e9", "^"};
+    private static final String[] PHONE_TOKENS = {"+", "0", "1", "9", "12345", "98765432", " ", "a", "-"};
+    private static final String[] EMAIL_TOKENS = {"a", "Z", "9", "alex", "example", "com", "@", ".", "-", "+",
+        "_", "..", "--", " ", "\u00e9", "!"};
+    private static final String[] ADDRESS_TOKENS = {"a", "Blk 30", "#06-40", " ", "\t", "\n", "\r", "\u000B", "\f",
+        "\u0085", "\u2028", "\u2029", "\u00e9", ","};
+    private static final String[] DIGITS_TOKENS = {"0", "1", "9", "123456", " ", "a", "-", "+", "\u0661"};
+    private static final String[] TAG_TOKENS = {"a", "Z", "9", "friends", " ", "_", "-", "\u00e9", "!"};
+    private static final String[] RENEWAL_DATE_TOKENS = {"0", "1", "2", "3", "9", "-", "31", "29", "02", "13",
+        "2030", "1999", "0000", " ", "a"};
+
+    private static final String RENEWAL_DATE_REGEX = "\\d{2}-\\d{2}-\\d{4}";
+
+    public static List<String> names(long seed, int count) {
+        return generate(seed, count, 6, NAME_TOKENS);
+    }
+
+    public static List<String> phones(long seed, int count) {
+        return generate(seed, count, 4, PHONE_TOKENS);
+    }
+
+    public static List<String> emails(long seed, int count) {
+        return generate(seed, count, 8, EMAIL_TOKENS);
+    }
+
+    public static List<String> addresses(long seed, int count) {
+        return generate(seed, count, 5, ADDRESS_TOKENS);
+    }
+
+    public static List<String> policyNumbers(long seed, int count) {
+        return generate(seed, count, 4, DIGITS_TOKENS);
+    }
+
+    public static List<String> tagNames(long seed, int count) {
+        return generate(seed, count, 4, TAG_TOKENS);
+    }
+
+    /**
+     * Returns random renewal dates, half of them well-formed dates in DD-MM-YYYY format with possibly invalid
+     * days and months, and half of them random token sequences.
+     */
+    public static List<String> renewalDates(long seed, int count) {
+        Random random = new Random(seed);
+        List<String> inputs = generate(seed, count / 2, 6, RENEWAL_DATE_TOKENS);
+        while (inputs.size() < count) {
+            inputs.add(String.format("%02d-%02d-%04d", random.nextInt(33), random.nextInt(14),
+                    1990 + random.nextInt(60)));
+        }
+        return inputs;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid renewal date by the regex and {@code DateTimeFormatter}
+     * based check that the renewal date validator replaced.
+     */
+    public static boolean isValidRenewalDateByRegex(String test) {
+        if (!test.matches(RENEWAL_DATE_REGEX)) {
+            return false;
+        }
+        try {
+            // the formatter clamps invalid days of the month to the last valid day, so check the round trip
+            LocalDate date = LocalDate.parse(test, RenewalDate.DATE_FORMATTER);
+            return date.format(RenewalDate.DATE_FORMATTER).equals(test) && RenewalDate.isFutureDate(date);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code count} strings of up to {@code maxTokens} tokens each, picked at random from {@code tokens}.
+     */
+    private static List<String> generate(long seed, int count, int maxTokens, String... tokens) {
+        Random random = new Random(seed);
+        List<String> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder input = new StringBuilder();
+            int tokenCount = random.nextInt(maxTokens + 1);
+            for (int j = 0; j < tokenCount; j++) {
+                input.append(tokens[random.nextInt(tokens.length)]);
+            }
+            inputs.add(input.toString());
+        }
+        return inputs;
+    }
+}